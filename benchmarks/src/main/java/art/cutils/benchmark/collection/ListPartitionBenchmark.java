@@ -0,0 +1,92 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.benchmark.collection;
+
+import art.cutils.collection.ListPartition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link ListPartition}: building a partition over a list, a single {@link
+ * ListPartition#get(int)} and walking every partition.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ListPartitionBenchmark {
+
+  @Param({"1000"})
+  private int size;
+
+  @Param({"10"})
+  private int sublistSize;
+
+  private List<Integer> list;
+
+  private ListPartition<Integer> partition;
+
+  @Setup
+  public void setUp() {
+    this.list = new ArrayList<>(this.size);
+    for (int i = 0; i < this.size; i++) {
+      this.list.add(i);
+    }
+    this.partition = ListPartition.of(this.list).into(this.sublistSize);
+  }
+
+  @Benchmark
+  public ListPartition<Integer> of() {
+    return ListPartition.of(this.list).into(this.sublistSize);
+  }
+
+  @Benchmark
+  public List<Integer> get() {
+    return this.partition.get(this.partition.size() / 2);
+  }
+
+  @Benchmark
+  public void iterate(final Blackhole blackhole) {
+    for (final List<? super Integer> sublist : this.partition) {
+      blackhole.consume(sublist);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.benchmark.function;
+
+import art.cutils.function.Idler;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares memoized reads shared by several threads: {@link Idler#concurrentSupply(Supplier)}
+ * against a synchronized memoizer and hand written double-checked locking, with the non thread safe
+ * {@link Idler#supply(Supplier)} as the lower bound.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConcurrentIdlerBenchmark {
+
+  private final String value = "idler";
+
+  private Supplier<String> idler;
+
+  private Supplier<String> concurrentIdler;
+
+  private Supplier<String> synchronizedMemo;
+
+  private Supplier<String> doubleChecked;
+
+  @Setup
+  public void setUp() {
+    this.idler = Idler.supply(() -> this.value);
+    this.concurrentIdler = Idler.concurrentSupply(() -> this.value);
+    this.synchronizedMemo = new SynchronizedMemo<>(() -> this.value);
+    this.doubleChecked = new DoubleCheckedMemo<>(() -> this.value);
+    this.idler.get();
+    this.concurrentIdler.get();
+    this.synchronizedMemo.get();
+    this.doubleChecked.get();
+  }
+
+  @Benchmark
+  public String idler() {
+    return this.idler.get();
+  }
+
+  @Benchmark
+  public String concurrentIdler() {
+    return this.concurrentIdler.get();
+  }
+
+  @Benchmark
+  public String synchronizedMemo() {
+    return this.synchronizedMemo.get();
+  }
+
+  @Benchmark
+  public String doubleCheckedLocking() {
+    return this.doubleChecked.get();
+  }
+
+  /** Memoizer guarded by the instance monitor on every read. */
+  private static final class SynchronizedMemo<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+
+    private T value;
+
+    private SynchronizedMemo(final Supplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public synchronized T get() {
+      if (this.value == null) {
+        this.value = this.supplier.get();
+      }
+      return this.value;
+    }
+  }
+
+  /** Memoizer locking only until the volatile value is published. */
+  private static final class DoubleCheckedMemo<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+
+    private volatile T value;
+
+    private DoubleCheckedMemo(final Supplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+      T result = this.value;
+      if (result == null) {
+        synchronized (this) {
+          result = this.value;
+          if (result == null) {
+            result = this.supplier.get();
+            this.value = result;
+          }
+        }
+      }
+      return result;
+    }
+  }
+}
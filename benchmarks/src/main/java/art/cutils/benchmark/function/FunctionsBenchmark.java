@@ -0,0 +1,108 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.benchmark.function;
+
+import art.cutils.function.Accepter;
+import art.cutils.function.Condition;
+import art.cutils.function.ThrowingFunction;
+import art.cutils.function.ThrowingUnaryOperation;
+import art.cutils.function.TriConsumer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the static and default helpers of the functional interfaces: {@link Condition}
+ * composition, {@link ThrowingFunction#unchecked(ThrowingFunction)}, {@link
+ * ThrowingUnaryOperation#unchecked(ThrowingUnaryOperation)}, {@link Accepter#andThen(Accepter)}
+ * and {@link TriConsumer#andThen(TriConsumer)}.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FunctionsBenchmark {
+
+  private final Condition met = Condition.of(true);
+
+  private final Condition notMet = Condition.of(false);
+
+  private final Function<String, Integer> unchecked = ThrowingFunction.unchecked(Integer::parseInt);
+
+  private final UnaryOperator<String> uncheckedOperator =
+      ThrowingUnaryOperation.unchecked(String::trim);
+
+  private final String number = "0025";
+
+  @Benchmark
+  public boolean conditionAllMet() {
+    return Condition.allMet(this.met, this.met, this.notMet).isMet();
+  }
+
+  @Benchmark
+  public boolean conditionAnyMet() {
+    return Condition.anyMet(this.notMet, this.notMet, this.met).isMet();
+  }
+
+  @Benchmark
+  public boolean conditionNoneMet() {
+    return Condition.noneMet(this.notMet, this.notMet, this.notMet).isMet();
+  }
+
+  @Benchmark
+  public Integer throwingFunctionUnchecked() {
+    return this.unchecked.apply(this.number);
+  }
+
+  @Benchmark
+  public String throwingUnaryOperationUnchecked() {
+    return this.uncheckedOperator.apply(this.number);
+  }
+
+  @Benchmark
+  public void accepterAndThen(final Blackhole blackhole) throws Exception {
+    final Accepter<String> accepter = blackhole::consume;
+    accepter.andThen(blackhole::consume).accept(this.number);
+  }
+
+  @Benchmark
+  public void triConsumerAndThen(final Blackhole blackhole) {
+    final TriConsumer<String, String, String> consumer = (x, y, z) -> blackhole.consume(x);
+    consumer.andThen((x, y, z) -> blackhole.consume(z)).accept(this.number, "y", "z");
+  }
+}
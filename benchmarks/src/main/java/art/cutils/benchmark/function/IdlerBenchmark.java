@@ -0,0 +1,82 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.benchmark.function;
+
+import art.cutils.function.Dealer;
+import art.cutils.function.Idler;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks memoized reads from {@link Idler} and the cost of the first, computing, read.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdlerBenchmark {
+
+  private final String value = "idler";
+
+  private Supplier<String> supplier;
+
+  private Dealer<String> dealer;
+
+  @Setup
+  public void setUp() throws Exception {
+    this.supplier = Idler.supply(() -> this.value);
+    this.dealer = Idler.deal(() -> this.value);
+    this.supplier.get();
+    this.dealer.deal();
+  }
+
+  @Benchmark
+  public String supplyMemoized() {
+    return this.supplier.get();
+  }
+
+  @Benchmark
+  public String dealMemoized() throws Exception {
+    return this.dealer.deal();
+  }
+
+  @Benchmark
+  public String supplyFirst() {
+    return Idler.supply(() -> this.value).get();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.benchmark.function;
+
+import art.cutils.function.LazyFunction;
+import art.cutils.function.LazyUnaryOperator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LazyFunction} and {@link LazyUnaryOperator} on warm keys (every call is a hit)
+ * and on a fresh instance (every call is a miss). The bounded variant is measured with every key
+ * resident and with a capacity of half the key space, where every call misses and evicts.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LazyFunctionBenchmark {
+
+  private static final int KEYS = 1024;
+
+  private final Integer[] keys = new Integer[KEYS];
+
+  private Function<Integer, Integer> function;
+
+  private UnaryOperator<Integer> operator;
+
+  private Function<Integer, Integer> bounded;
+
+  private Function<Integer, Integer> evicting;
+
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    this.function = LazyFunction.of(value -> value * 31);
+    this.operator = LazyUnaryOperator.of(value -> value * 31);
+    this.bounded = LazyFunction.of(value -> value * 31, KEYS);
+    this.evicting = LazyFunction.of(value -> value * 31, KEYS / 2);
+    for (int i = 0; i < KEYS; i++) {
+      this.keys[i] = i;
+      this.function.apply(i);
+      this.operator.apply(i);
+      this.bounded.apply(i);
+    }
+  }
+
+  private Integer nextKey() {
+    return this.keys[this.cursor++ & (KEYS - 1)];
+  }
+
+  @Benchmark
+  public Integer applyHit() {
+    return this.function.apply(this.nextKey());
+  }
+
+  @Benchmark
+  public Integer applyMiss() {
+    return LazyFunction.<Integer, Integer>of(value -> value * 31).apply(this.nextKey());
+  }
+
+  @Benchmark
+  public Integer boundedApplyHit() {
+    return this.bounded.apply(this.nextKey());
+  }
+
+  @Benchmark
+  public Integer boundedApplyEvicting() {
+    return this.evicting.apply(this.nextKey());
+  }
+
+  @Benchmark
+  public Integer unaryOperatorHit() {
+    return this.operator.apply(this.nextKey());
+  }
+}
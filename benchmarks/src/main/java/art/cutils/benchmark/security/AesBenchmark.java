@@ -0,0 +1,88 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.benchmark.security;
+
+import art.cutils.security.AES;
+import art.cutils.security.DigestAlgorithm;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link AES} key derivation, encryption and decryption of a short and a long value.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AesBenchmark {
+
+  @Param({"16", "4096"})
+  private int length;
+
+  private AES<String> aes;
+
+  private String plainText;
+
+  private String cipherText;
+
+  @Setup
+  public void setUp() throws Exception {
+    this.aes = AES.init(DigestAlgorithm.SHA256, "fW&yNtP2peBndT5Hz&");
+    final StringBuilder builder = new StringBuilder(this.length);
+    for (int i = 0; i < this.length; i++) {
+      builder.append((char) ('a' + i % 26));
+    }
+    this.plainText = builder.toString();
+    this.cipherText = this.aes.encrypt(this.plainText);
+  }
+
+  @Benchmark
+  public AES<String> init() throws Exception {
+    return AES.init(DigestAlgorithm.SHA256, "fW&yNtP2peBndT5Hz&");
+  }
+
+  @Benchmark
+  public String encrypt() throws Exception {
+    return this.aes.encrypt(this.plainText);
+  }
+
+  @Benchmark
+  public String decrypt() throws Exception {
+    return this.aes.decrypt(this.cipherText);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.benchmark.value;
+
+import art.cutils.value.Syndicate;
+import art.cutils.value.Try;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a query to three redundant replicas that usually answer in 1 ms but one time in ten
+ * take 50 ms, waiting for every replica with {@link Syndicate.Conductor#execute()} against taking
+ * the first answer with {@link Syndicate.Conductor#firstSuccess()}, and against querying a single
+ * replica with and without {@link Syndicate#hedge(java.util.concurrent.Callable)}.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReplicaBenchmark {
+
+  private ExecutorService executorService;
+
+  /** Keeps the recorded latencies across invocations. */
+  private Syndicate<Integer> hedger;
+
+  private static Integer query() throws InterruptedException {
+    final boolean slow = ThreadLocalRandom.current().nextInt(10) == 0;
+    TimeUnit.MILLISECONDS.sleep(slow ? 50 : 1);
+    return 1;
+  }
+
+  @Setup
+  public void setUp() {
+    this.executorService = Executors.newCachedThreadPool();
+    this.hedger = Syndicate.<Integer>init(this.executorService).hedgeAt(0.8);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.executorService.shutdownNow();
+  }
+
+  @Benchmark
+  public Try<List<Future<Integer>>> allReplicas() {
+    return this.replicas().apply().execute().get();
+  }
+
+  @Benchmark
+  public Try<Integer> firstReplica() {
+    return this.replicas().apply().firstSuccess();
+  }
+
+  @Benchmark
+  public Integer oneReplica() throws InterruptedException {
+    return ReplicaBenchmark.query();
+  }
+
+  @Benchmark
+  public Try<Integer> hedgedReplica() {
+    return this.hedger.hedge(ReplicaBenchmark::query);
+  }
+
+  private Syndicate<Integer> replicas() {
+    return Syndicate.<Integer>init(this.executorService)
+        .add(ReplicaBenchmark::query)
+        .add(ReplicaBenchmark::query)
+        .add(ReplicaBenchmark::query);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.benchmark.value;
+
+import art.cutils.value.Syndicate;
+import art.cutils.value.Try;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a {@link Syndicate} fan-out of four trivial tasks, once on a reused executor, once
+ * borrowing the shared pool of {@link Syndicate#init()} per syndicate and once with a cached thread
+ * pool created (and shut down) per syndicate, and the outcomes taken as futures or as {@link Try}
+ * values from {@link Syndicate.Conductor#results()}.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SyndicateBenchmark {
+
+  private ExecutorService executorService;
+
+  @Setup
+  public void setUp() {
+    this.executorService = Executors.newFixedThreadPool(4);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.executorService.shutdownNow();
+  }
+
+  @Benchmark
+  public Try<List<Future<Integer>>> sharedExecutor() {
+    return Syndicate.<Integer>init(this.executorService)
+        .add(() -> 1)
+        .add(() -> 2)
+        .add(() -> 3)
+        .add(() -> 4)
+        .apply()
+        .execute()
+        .get();
+  }
+
+  @Benchmark
+  public List<Try<Integer>> sharedExecutorResults() {
+    return Syndicate.<Integer>init(this.executorService)
+        .add(() -> 1)
+        .add(() -> 2)
+        .add(() -> 3)
+        .add(() -> 4)
+        .apply()
+        .results();
+  }
+
+  @Benchmark
+  public Try<List<Future<Integer>>> executorPerSyndicate() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      return syndicate.add(() -> 1).add(() -> 2).add(() -> 3).add(() -> 4).apply().execute().get();
+    }
+  }
+
+  @Benchmark
+  public Try<List<Future<Integer>>> cachedPoolPerSyndicate() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init(Executors.newCachedThreadPool())) {
+      return syndicate.add(() -> 1).add(() -> 2).add(() -> 3).add(() -> 4).apply().execute().get();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.benchmark.value;
+
+import art.cutils.value.HashedWheelTimer;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares scheduling a timeout and cancelling it before it fires, as done for request deadlines,
+ * from several threads while {@code outstanding} other timeouts are waiting: {@link
+ * HashedWheelTimer} against a {@link ScheduledThreadPoolExecutor} removing cancelled tasks from its
+ * heap.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimerBenchmark {
+
+  private final Runnable task = () -> {};
+
+  @Param({"0", "100000"})
+  private int outstanding;
+
+  private HashedWheelTimer wheel;
+
+  private ScheduledThreadPoolExecutor executor;
+
+  @Setup
+  public void setUp() {
+    this.wheel = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 1024);
+    this.executor = new ScheduledThreadPoolExecutor(1);
+    this.executor.setRemoveOnCancelPolicy(true);
+    for (int i = 0; i < this.outstanding; i++) {
+      this.wheel.schedule(this.task, 1 + i % 3_600, TimeUnit.SECONDS);
+      this.executor.schedule(this.task, 1 + i % 3_600, TimeUnit.SECONDS);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.wheel.close();
+    this.executor.shutdownNow();
+  }
+
+  @Benchmark
+  public boolean wheelScheduleAndCancel() {
+    return this.wheel.schedule(this.task, 1, TimeUnit.SECONDS).cancel();
+  }
+
+  @Benchmark
+  public boolean executorScheduleAndCancel() {
+    final ScheduledFuture<?> timeout = this.executor.schedule(this.task, 1, TimeUnit.SECONDS);
+    return timeout.cancel(false);
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.benchmark.value;
+
+import art.cutils.function.Executable;
+import art.cutils.value.Fault;
+import art.cutils.value.Try;
+import art.cutils.value.TryLong;
+import art.cutils.value.TryPipeline;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@link Try} entry points: creation from a {@link art.cutils.function.Dealer} or an
+ * {@link Executable} in both states, and the common operations chained on the result.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TryBenchmark {
+
+  private static final Fault NOT_A_NUMBER = Fault.of("NOT_A_NUMBER");
+
+  private final String number = "0025";
+
+  private final String notANumber = "0O25";
+
+  private final Try<Integer> success = Try.of(() -> Integer.parseInt(this.number));
+
+  private final Try<Integer> empty = this.success.filter(Objects::isNull);
+
+  private final Try<Integer> failure = Try.failure(NOT_A_NUMBER);
+
+  private final TryPipeline<String, Integer> pipeline =
+      TryPipeline.<String>start()
+          .map(Integer::parseInt)
+          .filter(result -> result > 0)
+          .map(result -> result * 2)
+          .map(result -> result + 1);
+
+  @Benchmark
+  public Try<Integer> ofDealerSuccess() {
+    return Try.of(() -> Integer.parseInt(this.number));
+  }
+
+  @Benchmark
+  public Try<Integer> ofDealerFailure() {
+    return Try.of(() -> Integer.parseInt(this.notANumber));
+  }
+
+  @Benchmark
+  public Try<Integer> ofDealerFault() {
+    return Try.of(
+        () -> {
+          if (this.notANumber.indexOf('O') >= 0) {
+            throw NOT_A_NUMBER;
+          }
+          return Integer.parseInt(this.notANumber);
+        });
+  }
+
+  @Benchmark
+  public Try<Integer> fault() {
+    return Try.fault("NOT_A_NUMBER");
+  }
+
+  @Benchmark
+  public Try<Object> ofExecutable(final Blackhole blackhole) {
+    return Try.of((Executable) () -> blackhole.consume(this.number));
+  }
+
+  @Benchmark
+  public Try<Integer> map() {
+    return this.success.map(result -> result * 2);
+  }
+
+  @Benchmark
+  public Try<Integer> filter() {
+    return Try.of(() -> Integer.parseInt(this.number)).filter(Objects::nonNull);
+  }
+
+  @Benchmark
+  public Try<Integer> filterRejecting() {
+    return this.success.filter(Objects::isNull);
+  }
+
+  @Benchmark
+  public Try<Integer> mapEmpty() {
+    return this.empty.map(result -> result * 2);
+  }
+
+  @Benchmark
+  public Try<Integer> peek(final Blackhole blackhole) {
+    return this.success.peek(blackhole::consume);
+  }
+
+  @Benchmark
+  public Try<Integer> flatMap() {
+    return this.success.flatMap(result -> Try.success(result * 2));
+  }
+
+  @Benchmark
+  public Try<Integer> flatMapWorkaround() {
+    return this.success.map(result -> Try.of(() -> result * 2).orElseGet(0));
+  }
+
+  @Benchmark
+  public Try<Integer> recover() {
+    return this.failure.recover(cause -> 0);
+  }
+
+  @Benchmark
+  public Try<Integer> recoverWorkaround() {
+    return Try.of(() -> this.failure.orElseGet(0));
+  }
+
+  @Benchmark
+  public Integer fold() {
+    return this.failure.fold(result -> result, cause -> 0);
+  }
+
+  @Benchmark
+  public Try<Integer> chain() {
+    return Try.of(() -> Integer.parseInt(this.number))
+        .filter(result -> result > 0)
+        .map(result -> result * 2)
+        .map(result -> result + 1);
+  }
+
+  @Benchmark
+  public Try<Integer> pipeline() {
+    return this.pipeline.apply(this.number);
+  }
+
+  @Benchmark
+  public long parseAndMapBoxed() {
+    return Try.of(() -> Long.parseLong(this.number)).map(result -> result * 2).orElseGet(0L);
+  }
+
+  @Benchmark
+  public long parseAndMapTryLong() {
+    return TryLong.of(() -> Long.parseLong(this.number)).map(result -> result * 2).orElseGet(0L);
+  }
+
+  @Benchmark
+  public Integer orElseGetOnFailure() {
+    return Try.of(() -> Integer.parseInt(this.notANumber)).orElseGet(0);
+  }
+}
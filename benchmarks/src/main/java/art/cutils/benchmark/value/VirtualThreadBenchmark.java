@@ -0,0 +1,88 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.benchmark.value;
+
+import art.cutils.value.Syndicate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares fanning out blocking tasks, such as HTTP calls, on a cached thread pool, which starts a
+ * platform thread per concurrent task, and with {@link Syndicate#initVirtual()}, which starts a
+ * virtual thread per task. Run it on Java 21 or later, where {@link Syndicate#initVirtual()} uses
+ * virtual threads; on earlier versions it borrows the bounded shared pool of {@link
+ * Syndicate#init()} instead.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadBenchmark {
+
+  @Param({"10000"})
+  private int tasks;
+
+  @Param({"10"})
+  private int blockMillis;
+
+  private static Syndicate<Integer> fanOut(
+      final Syndicate<Integer> syndicate, final int tasks, final long blockMillis) {
+    for (int i = 0; i < tasks; i++) {
+      final int task = i;
+      syndicate.add(
+          () -> {
+            Thread.sleep(blockMillis);
+            return task;
+          });
+    }
+    return syndicate;
+  }
+
+  @Benchmark
+  public int cachedPool() {
+    try (Syndicate<Integer> syndicate = Syndicate.init(Executors.newCachedThreadPool())) {
+      return fanOut(syndicate, this.tasks, this.blockMillis).apply().execute().get().get().size();
+    }
+  }
+
+  @Benchmark
+  public int virtualThreads() {
+    try (Syndicate<Integer> syndicate = Syndicate.initVirtual()) {
+      return fanOut(syndicate, this.tasks, this.blockMillis).apply().execute().get().get().size();
+    }
+  }
+}
@@ -30,7 +30,14 @@ import static java.util.Objects.requireNonNull;
 import art.cutils.value.Pair;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
+import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -39,6 +46,16 @@ import org.jetbrains.annotations.NotNull;
  * operations with high latency whose result are used multitudinous. The operation is performed once
  * and the result and served whenever needed and hence improving the performance.
  *
+ * <p>An instance from {@link #supply(Supplier)}, {@link #deal(Dealer)} or {@code of} is not thread
+ * safe: concurrent first calls may each run the operation. Share {@link
+ * #concurrentSupply(Supplier)} or {@link #concurrentDeal(Dealer)} between threads instead; they run
+ * the operation at most once per success and serve the result with a single volatile read. They
+ * also memoize a {@code null} result, which the other instances take for "not computed yet", and
+ * can hold on to a failure for a back-off window instead of running the operation again at once.
+ * For values that go stale, such as tokens, {@link #refreshingSupply(Supplier, long, TimeUnit,
+ * Executor)} and {@link #refreshingDeal(Dealer, long, TimeUnit, Executor)} reload the result in the
+ * background once it is older than a time to live.
+ *
  * @param <T> the type value
  * @author @author <a href="https://github.com/bobaikato">Bobai Kato</a>
  * @see Supplier
@@ -161,6 +178,140 @@ public final class Idler<T> implements Supplier<T>, Dealer<T>, Serializable {
     return new Idler<>(dealer);
   }
 
+  /**
+   * Thread safe {@link #supply(Supplier)}. The first callers race to run the supplier, one wins and
+   * the rest wait for its result; every later call is a single volatile read. If the supplier
+   * throws, the waiting callers get the same exception and the next call runs it again. A {@code
+   * null} result is memoized like any other.
+   *
+   * @param supplier the supplier, an instance of {@link Supplier}
+   * @param <T> the type of results supplied by the supplier
+   * @return a memoizing {@link Supplier} safe to share between threads
+   * @throws NullPointerException if the supplier is null
+   * @since 2.8
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull Supplier<T> concurrentSupply(final Supplier<T> supplier) {
+    requireNonNull(supplier, "supplier cannot be null");
+    return new Concurrent<>(supplier::get, 0L, 0L, null);
+  }
+
+  /**
+   * {@link #concurrentSupply(Supplier)} that remembers a failure. Once the supplier throws, every
+   * call rethrows that same exception until the back-off has passed; the first call after it runs
+   * the supplier again. Errors are never remembered.
+   *
+   * @param supplier the supplier, an instance of {@link Supplier}
+   * @param backOff how long to rethrow a failure before retrying, must be greater than 0
+   * @param unit the unit of {@code backOff}
+   * @param <T> the type of results supplied by the supplier
+   * @return a memoizing {@link Supplier} safe to share between threads
+   * @throws NullPointerException if the supplier or unit is null
+   * @throws IllegalArgumentException if {@code backOff} is not greater than 0
+   * @since 2.8
+   */
+  @Contract("_, _, _ -> new")
+  public static <T> @NotNull Supplier<T> concurrentSupply(
+      final Supplier<T> supplier, final long backOff, final TimeUnit unit) {
+    requireNonNull(supplier, "supplier cannot be null");
+    return new Concurrent<>(supplier::get, Idler.toNanos(backOff, unit), 0L, null);
+  }
+
+  /**
+   * Thread safe {@link #deal(Dealer)}. The first callers race to run the dealer, one wins and the
+   * rest wait for its result; every later call is a single volatile read. If the dealer throws, the
+   * waiting callers get the same exception and the next call runs it again. A {@code null} result
+   * is memoized like any other.
+   *
+   * @param dealer the dealer used by the Idler instance
+   * @param <T> the type of results supplied by the dealer
+   * @return a memoizing {@link Dealer} safe to share between threads
+   * @throws NullPointerException if the dealer is null
+   * @since 2.8
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull Dealer<T> concurrentDeal(final Dealer<T> dealer) {
+    requireNonNull(dealer, "dealer cannot be null");
+    return new Concurrent<>(dealer, 0L, 0L, null);
+  }
+
+  /**
+   * {@link #concurrentDeal(Dealer)} that remembers a failure. Once the dealer throws, every call
+   * rethrows that same exception until the back-off has passed; the first call after it runs the
+   * dealer again. Errors are never remembered.
+   *
+   * @param dealer the dealer used by the Idler instance
+   * @param backOff how long to rethrow a failure before retrying, must be greater than 0
+   * @param unit the unit of {@code backOff}
+   * @param <T> the type of results supplied by the dealer
+   * @return a memoizing {@link Dealer} safe to share between threads
+   * @throws NullPointerException if the dealer or unit is null
+   * @throws IllegalArgumentException if {@code backOff} is not greater than 0
+   * @since 2.8
+   */
+  @Contract("_, _, _ -> new")
+  public static <T> @NotNull Dealer<T> concurrentDeal(
+      final Dealer<T> dealer, final long backOff, final TimeUnit unit) {
+    requireNonNull(dealer, "dealer cannot be null");
+    return new Concurrent<>(dealer, Idler.toNanos(backOff, unit), 0L, null);
+  }
+
+  /**
+   * {@link #concurrentSupply(Supplier)} whose result expires. The first call runs the supplier and
+   * waits for it like {@link #concurrentSupply(Supplier)}; after that no call waits again. The
+   * first call that finds the result older than {@code ttl} hands a reload to the executor and,
+   * like every call until the reload completes, gets the old result. If the reload throws, the old
+   * result is kept and the next call tries again.
+   *
+   * @param supplier the supplier, an instance of {@link Supplier}
+   * @param ttl the age after which the result is reloaded, must be greater than 0
+   * @param unit the unit of {@code ttl}
+   * @param executor the executor to run reloads on
+   * @param <T> the type of results supplied by the supplier
+   * @return a memoizing {@link Supplier} safe to share between threads
+   * @throws NullPointerException if the supplier, unit or executor is null
+   * @throws IllegalArgumentException if {@code ttl} is not greater than 0
+   * @since 2.8
+   */
+  @Contract("_, _, _, _ -> new")
+  public static <T> @NotNull Supplier<T> refreshingSupply(
+      final Supplier<T> supplier, final long ttl, final TimeUnit unit, final Executor executor) {
+    requireNonNull(supplier, "supplier cannot be null");
+    requireNonNull(executor, "executor cannot be null");
+    return new Concurrent<>(supplier::get, 0L, Idler.toNanos(ttl, unit), executor);
+  }
+
+  /**
+   * {@link #concurrentDeal(Dealer)} whose result expires. The first call runs the dealer and waits
+   * for it like {@link #concurrentDeal(Dealer)}; after that no call waits again. The first call
+   * that finds the result older than {@code ttl} hands a reload to the executor and, like every
+   * call until the reload completes, gets the old result. If the reload throws, the old result is
+   * kept and the next call tries again.
+   *
+   * @param dealer the dealer used by the Idler instance
+   * @param ttl the age after which the result is reloaded, must be greater than 0
+   * @param unit the unit of {@code ttl}
+   * @param executor the executor to run reloads on
+   * @param <T> the type of results supplied by the dealer
+   * @return a memoizing {@link Dealer} safe to share between threads
+   * @throws NullPointerException if the dealer, unit or executor is null
+   * @throws IllegalArgumentException if {@code ttl} is not greater than 0
+   * @since 2.8
+   */
+  @Contract("_, _, _, _ -> new")
+  public static <T> @NotNull Dealer<T> refreshingDeal(
+      final Dealer<T> dealer, final long ttl, final TimeUnit unit, final Executor executor) {
+    requireNonNull(dealer, "dealer cannot be null");
+    requireNonNull(executor, "executor cannot be null");
+    return new Concurrent<>(dealer, 0L, Idler.toNanos(ttl, unit), executor);
+  }
+
+  private static long toNanos(final long duration, final TimeUnit unit) {
+    requireNonNull(unit, "unit cannot be null");
+    Validate.isTrue(duration > 0L, "duration must be greater than 0.");
+    return unit.toNanos(duration);
+  }
+
   /**
    * Executes the deal operation and returns the second value of the pair, which represents the
    * result of the dealer operation.
@@ -220,4 +371,215 @@ public final class Idler<T> implements Supplier<T>, Dealer<T>, Serializable {
       return false;
     }
   }
+
+  /**
+   * Memoizes a {@link Dealer} for concurrent use. The state moves from {@code null} to a {@link
+   * Loading} installed by compare-and-set, whose owner runs the dealer, and then to a {@link
+   * Loaded} holder that is never replaced. A failure moves it back to {@code null}, or with a
+   * back-off to a {@link Failed} that is replaced by the next {@link Loading} once it runs out.
+   * With a time to live, an expired {@link Loaded} is swapped for a {@link Reloading} by the one
+   * caller that hands the reload to the executor, which then installs the new {@link Loaded}.
+   *
+   * @param <T> the type of the result
+   */
+  private static final class Concurrent<T> implements Supplier<T>, Dealer<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Concurrent, Object> STATE =
+        AtomicReferenceFieldUpdater.newUpdater(Concurrent.class, Object.class, "state");
+
+    private final Dealer<T> dealer;
+
+    /** How long a failure is rethrown, in nanoseconds, {@code 0} to retry at once. */
+    private final long backOffNanos;
+
+    /** Age after which the result is reloaded, in nanoseconds, {@code 0} for never. */
+    private final long ttlNanos;
+
+    /** Runs the reloads, {@code null} unless a time to live is set. */
+    private final Executor refresher;
+
+    /** {@code null} before the first call, then a {@link Loading} and finally a {@link Loaded}. */
+    private volatile Object state;
+
+    private Concurrent(
+        final Dealer<T> dealer,
+        final long backOffNanos,
+        final long ttlNanos,
+        final Executor refresher) {
+      this.dealer = dealer;
+      this.backOffNanos = backOffNanos;
+      this.ttlNanos = ttlNanos;
+      this.refresher = refresher;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deal() throws Exception {
+      final Object current = this.state;
+      if (current instanceof Loaded) {
+        final Loaded<T> loaded = (Loaded<T>) current;
+        if (this.ttlNanos > 0L
+            && !(loaded instanceof Reloading)
+            && System.nanoTime() - loaded.loadedAt >= this.ttlNanos) {
+          this.refresh(loaded);
+        }
+        return loaded.value;
+      }
+      return this.load();
+    }
+
+    /**
+     * Hands a reload of the expired result to the executor, unless another caller just did.
+     *
+     * @param expired the result to replace
+     */
+    private void refresh(final Loaded<T> expired) {
+      final Reloading<T> reloading = new Reloading<>(expired);
+      if (!STATE.compareAndSet(this, expired, reloading)) {
+        return;
+      }
+      try {
+        this.refresher.execute(
+            () -> {
+              Loaded<T> next = expired;
+              try {
+                next = new Loaded<>(this.dealer.deal(), System.nanoTime());
+              } catch (final Exception e) {
+                // keep serving the expired result, the next call tries again
+              } finally {
+                STATE.compareAndSet(this, reloading, next);
+              }
+            });
+      } catch (final RejectedExecutionException e) {
+        STATE.compareAndSet(this, reloading, expired);
+      }
+    }
+
+    @Override
+    public T get() {
+      try {
+        return this.deal();
+      } catch (final RuntimeException e) {
+        throw e;
+      } catch (final Exception e) {
+        // only reachable through a Dealer, which is never exposed as a Supplier
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T load() throws Exception {
+      while (true) {
+        final Object current = this.state;
+        if (current instanceof Loaded) {
+          return ((Loaded<T>) current).value;
+        }
+        if (current instanceof Loading) {
+          return ((Loading<T>) current).await();
+        }
+        if (current instanceof Failed && !((Failed) current).isOver()) {
+          throw ((Failed) current).exception;
+        }
+        final Loading<T> loading = new Loading<>();
+        if (STATE.compareAndSet(this, current, loading)) {
+          try {
+            final T value = this.dealer.deal();
+            this.state = new Loaded<>(value, this.ttlNanos > 0L ? System.nanoTime() : 0L);
+            loading.complete(value);
+            return value;
+          } catch (final Throwable e) {
+            this.state =
+                this.backOffNanos > 0L && e instanceof Exception
+                    ? new Failed((Exception) e, System.nanoTime() + this.backOffNanos)
+                    : null;
+            loading.completeExceptionally(e);
+            throw e;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * A computed result, possibly {@code null}.
+   *
+   * @param <T> the type of the result
+   */
+  private static class Loaded<T> {
+
+    private final T value;
+
+    /** {@link System#nanoTime()} when the value was computed, {@code 0} without a time to live. */
+    private final long loadedAt;
+
+    private Loaded(final T value, final long loadedAt) {
+      this.value = value;
+      this.loadedAt = loadedAt;
+    }
+  }
+
+  /**
+   * An expired result still served while its reload runs.
+   *
+   * @param <T> the type of the result
+   */
+  private static final class Reloading<T> extends Loaded<T> {
+
+    private Reloading(final @NotNull Loaded<T> expired) {
+      super(expired.value, expired.loadedAt);
+    }
+  }
+
+  /** A remembered failure, rethrown until its back-off runs out. */
+  private static final class Failed {
+
+    private final Exception exception;
+
+    /** {@link System#nanoTime()} at which the back-off runs out. */
+    private final long until;
+
+    private Failed(final Exception exception, final long until) {
+      this.exception = exception;
+      this.until = until;
+    }
+
+    private boolean isOver() {
+      return System.nanoTime() - this.until >= 0L;
+    }
+  }
+
+  /**
+   * A computation in progress, completed by the thread that started it.
+   *
+   * @param <T> the type of the result
+   */
+  private static final class Loading<T> extends CompletableFuture<T> {
+
+    /** The thread running the dealer. */
+    private final Thread owner = Thread.currentThread();
+
+    /**
+     * Waits for the computation and returns its result, or rethrows its exception.
+     *
+     * @return the computed result
+     * @throws Exception the exception thrown by the dealer
+     */
+    private T await() throws Exception {
+      if (this.owner == Thread.currentThread()) {
+        throw new IllegalStateException("Recursive call to an Idler being computed.");
+      }
+      try {
+        return this.join();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof Exception) {
+          throw (Exception) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw e;
+      }
+    }
+  }
 }
@@ -24,10 +24,21 @@
 package art.cutils.function;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,6 +49,21 @@ import org.jetbrains.annotations.NotNull;
  * computing again. Every operation is performed once with unique parameters and the result and
  * served whenever needed.
  *
+ * <p>By default every result is kept for the life of the function. Use {@link #of(Function, int)}
+ * for high-cardinality arguments: the store is then bounded and evicts the least recently used
+ * result once full, and {@link #getHitCount()} and {@link #getMissCount()} help to size it.
+ *
+ * <p>Concurrent callers that miss on the same argument each apply the function, and the first
+ * result stored wins. When the function is expensive, {@link Builder#singleFlight()} makes them
+ * wait for the one computation in flight instead.
+ *
+ * <p>For values that change over time, results can expire a fixed time after they were computed
+ * ({@link Builder#expireAfterWrite(long, TimeUnit)}) or last read ({@link
+ * Builder#expireAfterAccess(long, TimeUnit)}); an expired result is computed again by the caller
+ * that finds it. With {@link Builder#refreshAfterWrite(long, TimeUnit, Executor)}, a result older
+ * than the refresh interval is still served while it is recomputed in the background, so readers of
+ * a hot argument never wait for a reload.
+ *
  * @param <T> the result type
  * @param <R> the return type
  * @author @author <a href="https://github.com/bobaikato">Bobai Kato</a>
@@ -54,15 +80,52 @@ public final class LazyFunction<T, R> implements Function<T, R>, Serializable {
    *
    * @since 1.0
    */
-  private final transient Map<T, R> store = new ConcurrentHashMap<>();
+  private final transient Map<T, Entry<R>> store;
+
+  /**
+   * Computations in progress by argument, {@code null} unless {@link Builder#singleFlight()} was
+   * requested.
+   */
+  private final transient Map<T, Flight<R>> flights;
+
+  /** Time to live of a result after it is computed, in nanoseconds, {@code 0} for forever. */
+  private final transient long expireAfterWriteNanos;
+
+  /** Time to live of a result after it is last read, in nanoseconds, {@code 0} for forever. */
+  private final transient long expireAfterAccessNanos;
+
+  /** Age after which a result is recomputed in the background, {@code 0} for never. */
+  private final transient long refreshAfterWriteNanos;
+
+  /** Runs the background recomputations, {@code null} unless a refresh interval is set. */
+  private final transient Executor refresher;
+
+  /** Arguments whose background recomputation is queued or running. */
+  private final transient Set<T> refreshing;
+
+  /** Number of {@link #apply(Object)} calls answered without applying the function. */
+  private final transient LongAdder hits = new LongAdder();
+
+  /** Number of {@link #apply(Object)} calls that had to compute the result. */
+  private final transient LongAdder misses = new LongAdder();
 
   /**
    * Sealed.
    *
-   * @param function argument, instance of {@link Function}
+   * @param builder the configuration of this function
    */
-  private LazyFunction(final Function<? super T, ? extends R> function) {
-    this.function = function;
+  private LazyFunction(final @NotNull Builder<T, R> builder) {
+    this.function = builder.function;
+    this.store =
+        builder.maxEntries > 0
+            ? Collections.synchronizedMap(new LeastRecentlyUsed<>(builder.maxEntries))
+            : new ConcurrentHashMap<>();
+    this.flights = builder.singleFlight ? new ConcurrentHashMap<>() : null;
+    this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+    this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+    this.refreshAfterWriteNanos = builder.refreshAfterWriteNanos;
+    this.refresher = builder.refresher;
+    this.refreshing = this.refresher != null ? ConcurrentHashMap.newKeySet() : null;
   }
 
   /**
@@ -76,8 +139,44 @@ public final class LazyFunction<T, R> implements Function<T, R>, Serializable {
    */
   @Contract("_ -> new")
   public static <T, R> @NotNull Function<T, R> of(final Function<? super T, ? extends R> function) {
+    return LazyFunction.<T, R>builder(function).build();
+  }
+
+  /**
+   * Creates a new lazy function from the given function that keeps at most {@code maxEntries}
+   * results. Once full, storing a new result evicts the least recently used one, so memory stays
+   * flat however many distinct arguments are applied.
+   *
+   * @param function the function to create a lazy function from
+   * @param maxEntries the maximum number of results to keep, must be greater than 0
+   * @param <T> the type of the input to the function
+   * @param <R> the type of the result of the function
+   * @return a new bounded lazy function
+   * @throws NullPointerException if the function is null
+   * @throws IllegalArgumentException if {@code maxEntries} is not greater than 0
+   * @since 2.8
+   */
+  @Contract("_, _ -> new")
+  public static <T, R> @NotNull LazyFunction<T, R> of(
+      final Function<? super T, ? extends R> function, final int maxEntries) {
+    return LazyFunction.<T, R>builder(function).maxEntries(maxEntries).build();
+  }
+
+  /**
+   * Starts the configuration of a lazy function from the given function.
+   *
+   * @param function the function to create a lazy function from
+   * @param <T> the type of the input to the function
+   * @param <R> the type of the result of the function
+   * @return a new {@link Builder}
+   * @throws NullPointerException if the function is null
+   * @since 2.8
+   */
+  @Contract("_ -> new")
+  public static <T, R> @NotNull Builder<T, R> builder(
+      final Function<? super T, ? extends R> function) {
     Objects.requireNonNull(function, "function cannot be null");
-    return new LazyFunction<>(function);
+    return new Builder<>(function);
   }
 
   /**
@@ -87,20 +186,199 @@ public final class LazyFunction<T, R> implements Function<T, R>, Serializable {
    *
    * @param t the argument to apply the function to
    * @return the result of applying the function to the argument
+   * @throws IllegalStateException in single-flight mode, if the function recursively applies this
+   *     lazy function to the argument it is computing
    */
   @Override
   public R apply(final T t) {
-    if (this.store.containsKey(t)) {
-      return this.store.get(t);
+    final Entry<R> entry = this.store.get(t);
+    if (entry != null) {
+      final long now = this.now();
+      if (!this.isExpired(entry, now)) {
+        this.hits.increment();
+        if (this.expireAfterAccessNanos > 0L) {
+          entry.accessedAt = now;
+        }
+        if (this.refreshAfterWriteNanos > 0L
+            && now - entry.writtenAt >= this.refreshAfterWriteNanos) {
+          this.refresh(t, entry);
+        }
+        return entry.value;
+      }
+      this.store.remove(t, entry);
     }
-    final R value = this.function.apply(t);
-    this.store.putIfAbsent(t, value);
-    return value;
+    return this.flights == null ? this.compute(t) : this.computeOnce(t);
+  }
+
+  /**
+   * Applies the function and stores the result, unless a concurrent caller stored a live one first.
+   *
+   * @param t the argument to apply the function to
+   * @return the stored result
+   */
+  private R compute(final T t) {
+    this.misses.increment();
+    final Entry<R> entry = new Entry<>(this.function.apply(t), this.now());
+    final Entry<R> previous = this.store.putIfAbsent(t, entry);
+    if (previous == null) {
+      return entry.value;
+    }
+    if (!this.isExpired(previous, entry.writtenAt)) {
+      return previous.value;
+    }
+    this.store.replace(t, previous, entry);
+    return entry.value;
+  }
+
+  /**
+   * Recomputes the result of {@code t} on the refresh executor, unless a recomputation is already
+   * queued or running. The stale entry keeps being served meanwhile and is replaced only if it is
+   * still the stored one; if the function fails it is kept until it expires.
+   *
+   * @param t the argument to recompute
+   * @param stale the entry to replace
+   */
+  private void refresh(final T t, final Entry<R> stale) {
+    if (!this.refreshing.add(t)) {
+      return;
+    }
+    try {
+      this.refresher.execute(
+          () -> {
+            try {
+              this.store.replace(t, stale, new Entry<>(this.function.apply(t), this.now()));
+            } catch (final RuntimeException e) {
+              // keep serving the stale result, the next read past the interval tries again
+            } finally {
+              this.refreshing.remove(t);
+            }
+          });
+    } catch (final RejectedExecutionException e) {
+      this.refreshing.remove(t);
+    }
+  }
+
+  /**
+   * Removes every expired result from the store. Expired results are otherwise only dropped when
+   * their argument is applied again or, for a bounded function, when they are evicted.
+   *
+   * @since 2.8
+   */
+  public void cleanUp() {
+    if (this.expireAfterWriteNanos > 0L || this.expireAfterAccessNanos > 0L) {
+      final long now = this.now();
+      this.store.values().removeIf(entry -> this.isExpired(entry, now));
+    }
+  }
+
+  /**
+   * Checks whether the entry outlived either time to live.
+   *
+   * @param entry the entry to check
+   * @param now the current {@link System#nanoTime()}
+   * @return {@code true} if the entry must not be served any longer
+   */
+  private boolean isExpired(final @NotNull Entry<R> entry, final long now) {
+    return (this.expireAfterWriteNanos > 0L && now - entry.writtenAt >= this.expireAfterWriteNanos)
+        || (this.expireAfterAccessNanos > 0L
+            && now - entry.accessedAt >= this.expireAfterAccessNanos);
+  }
+
+  /**
+   * Reads the clock only when some expiry or refresh interval needs it.
+   *
+   * @return {@link System#nanoTime()}, or {@code 0} if no interval is set
+   */
+  private long now() {
+    return this.expireAfterWriteNanos > 0L
+            || this.expireAfterAccessNanos > 0L
+            || this.refreshAfterWriteNanos > 0L
+        ? System.nanoTime()
+        : 0L;
+  }
+
+  /**
+   * Applies the function on behalf of every concurrent caller of the same argument: the first one
+   * computes, the others wait for its result or its exception.
+   *
+   * @param t the argument to apply the function to
+   * @return the stored result
+   */
+  private R computeOnce(final T t) {
+    final Flight<R> flight = new Flight<>();
+    final Flight<R> inFlight = this.flights.putIfAbsent(t, flight);
+    if (inFlight != null) {
+      final R value = inFlight.await();
+      this.hits.increment();
+      return value;
+    }
+    try {
+      // a previous flight may have landed between the store lookup and this one taking off
+      final Entry<R> entry = this.store.get(t);
+      final R value;
+      if (entry == null || this.isExpired(entry, this.now())) {
+        value = this.compute(t);
+      } else {
+        this.hits.increment();
+        value = entry.value;
+      }
+      flight.complete(value);
+      return value;
+    } catch (final RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      this.flights.remove(t, flight);
+    }
+  }
+
+  /**
+   * Returns the number of {@link #apply(Object)} calls answered without applying the function,
+   * either from the store or, in single-flight mode, by waiting for another caller's computation.
+   *
+   * @return the number of hits
+   * @since 2.8
+   */
+  public long getHitCount() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Returns the number of {@link #apply(Object)} calls that had to apply the function, either
+   * because the argument was new or because its result had been evicted.
+   *
+   * @return the number of misses
+   * @since 2.8
+   */
+  public long getMissCount() {
+    return this.misses.sum();
+  }
+
+  /**
+   * Returns the number of results currently stored.
+   *
+   * @return the number of stored results
+   * @since 2.8
+   */
+  public int size() {
+    return this.store.size();
+  }
+
+  /**
+   * Copies the stored results, leaving out when they were computed and read, which differ between
+   * instances holding the same results.
+   *
+   * @return the stored results by argument.
+   */
+  private @NotNull Map<T, R> results() {
+    final Map<T, R> results = new HashMap<>();
+    this.store.forEach((t, entry) -> results.put(t, entry.value));
+    return results;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(function, store);
+    return Objects.hash(function, this.results());
   }
 
   @Override
@@ -111,8 +389,213 @@ public final class LazyFunction<T, R> implements Function<T, R>, Serializable {
     }
     if (o instanceof LazyFunction) {
       final LazyFunction<?, ?> that = (LazyFunction<?, ?>) o;
-      return function.equals(that.function) && store.equals(that.store);
+      return function.equals(that.function) && this.results().equals(that.results());
     }
     return false;
   }
-}
\ No newline at end of file
+
+  /**
+   * Configures a {@link LazyFunction}. Every option is independent of the others and defaults to
+   * the behaviour of {@link LazyFunction#of(Function)}.
+   *
+   * @param <T> the type of the input to the function
+   * @param <R> the type of the result of the function
+   * @since 2.8
+   */
+  public static final class Builder<T, R> {
+
+    private final Function<? super T, ? extends R> function;
+
+    /** Maximum number of results to keep, {@code 0} for unbounded. */
+    private int maxEntries;
+
+    private boolean singleFlight;
+
+    private long expireAfterWriteNanos;
+
+    private long expireAfterAccessNanos;
+
+    private long refreshAfterWriteNanos;
+
+    private Executor refresher;
+
+    @Contract(pure = true)
+    private Builder(final Function<? super T, ? extends R> function) {
+      this.function = function;
+    }
+
+    /**
+     * Keep at most {@code maxEntries} results, evicting the least recently used one once full.
+     *
+     * @param maxEntries the maximum number of results to keep, must be greater than 0
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maxEntries} is not greater than 0
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public Builder<T, R> maxEntries(final int maxEntries) {
+      Validate.isTrue(maxEntries > 0, "maxEntries must be greater than 0.");
+      this.maxEntries = maxEntries;
+      return this;
+    }
+
+    /**
+     * Apply the function at most once at a time per argument: concurrent callers that miss on the
+     * same argument wait for the computation in flight and share its result or exception.
+     *
+     * @return this builder
+     */
+    @Contract(value = " -> this", mutates = "this")
+    public Builder<T, R> singleFlight() {
+      this.singleFlight = true;
+      return this;
+    }
+
+    /**
+     * Expire every result once the given time has passed since it was computed. The next call with
+     * its argument computes it again.
+     *
+     * @param duration the time to live of a result, must be greater than 0
+     * @param unit the unit of {@code duration}
+     * @return this builder
+     * @throws IllegalArgumentException if {@code duration} is not greater than 0
+     * @throws NullPointerException if {@code unit} is null
+     */
+    @Contract(value = "_, _ -> this", mutates = "this")
+    public Builder<T, R> expireAfterWrite(final long duration, final TimeUnit unit) {
+      this.expireAfterWriteNanos = Builder.toNanos(duration, unit);
+      return this;
+    }
+
+    /**
+     * Expire every result once the given time has passed since it was last read or computed. The
+     * next call with its argument computes it again.
+     *
+     * @param duration the idle time to live of a result, must be greater than 0
+     * @param unit the unit of {@code duration}
+     * @return this builder
+     * @throws IllegalArgumentException if {@code duration} is not greater than 0
+     * @throws NullPointerException if {@code unit} is null
+     */
+    @Contract(value = "_, _ -> this", mutates = "this")
+    public Builder<T, R> expireAfterAccess(final long duration, final TimeUnit unit) {
+      this.expireAfterAccessNanos = Builder.toNanos(duration, unit);
+      return this;
+    }
+
+    /**
+     * Recompute a result on the given executor the first time it is read after the given time has
+     * passed since it was computed. The stale result is returned meanwhile, so no reader waits for
+     * the reload; at most one reload per argument runs at a time. Combine with a longer {@link
+     * #expireAfterWrite(long, TimeUnit)} to bound how stale a rarely read result can get.
+     *
+     * @param duration the age after which a result is reloaded, must be greater than 0
+     * @param unit the unit of {@code duration}
+     * @param executor the executor to run reloads on
+     * @return this builder
+     * @throws IllegalArgumentException if {@code duration} is not greater than 0
+     * @throws NullPointerException if {@code unit} or {@code executor} is null
+     */
+    @Contract(value = "_, _, _ -> this", mutates = "this")
+    public Builder<T, R> refreshAfterWrite(
+        final long duration, final TimeUnit unit, final Executor executor) {
+      Objects.requireNonNull(executor, "executor cannot be null");
+      this.refreshAfterWriteNanos = Builder.toNanos(duration, unit);
+      this.refresher = executor;
+      return this;
+    }
+
+    private static long toNanos(final long duration, final TimeUnit unit) {
+      Objects.requireNonNull(unit, "unit cannot be null");
+      Validate.isTrue(duration > 0L, "duration must be greater than 0.");
+      return unit.toNanos(duration);
+    }
+
+    /**
+     * Creates the configured lazy function.
+     *
+     * @return a new {@link LazyFunction}
+     */
+    @Contract(" -> new")
+    public @NotNull LazyFunction<T, R> build() {
+      return new LazyFunction<>(this);
+    }
+  }
+
+  /**
+   * A stored result and the times it was computed and last read.
+   *
+   * @param <R> the type of the result
+   */
+  private static final class Entry<R> {
+
+    private final R value;
+
+    /** {@link System#nanoTime()} when the value was computed. */
+    private final long writtenAt;
+
+    /** {@link System#nanoTime()} when the value was last read. */
+    private volatile long accessedAt;
+
+    private Entry(final R value, final long writtenAt) {
+      this.value = Objects.requireNonNull(value, "function result cannot be null");
+      this.writtenAt = writtenAt;
+      this.accessedAt = writtenAt;
+    }
+  }
+
+  /**
+   * A computation in progress, completed by the thread that started it.
+   *
+   * @param <R> the type of the result
+   */
+  private static final class Flight<R> extends CompletableFuture<R> {
+
+    /** The thread applying the function. */
+    private final Thread owner = Thread.currentThread();
+
+    /**
+     * Waits for the computation and returns its result, or rethrows its exception.
+     *
+     * @return the computed result
+     */
+    private R await() {
+      if (this.owner == Thread.currentThread()) {
+        throw new IllegalStateException("Recursive application to an argument being computed.");
+      }
+      try {
+        return this.join();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Access ordered {@link LinkedHashMap} that drops its eldest, that is least recently used, entry
+   * once it holds more than {@code maxEntries}.
+   *
+   * @param <K> the type of keys
+   * @param <V> the type of values
+   */
+  private static final class LeastRecentlyUsed<K, V> extends LinkedHashMap<K, V> {
+    private static final long serialVersionUID = -2316521804526381543L;
+
+    private final int maxEntries;
+
+    private LeastRecentlyUsed(final int maxEntries) {
+      super(16, 0.75f, true);
+      this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+      return this.size() > this.maxEntries;
+    }
+  }
+}
@@ -38,6 +38,9 @@ import org.jetbrains.annotations.NotNull;
  * the same parameter is passed instead of computing again. Every operation is performed once with
  * unique parameters and the result and served whenever needed.
  *
+ * <p>Use {@link #singleFlight(UnaryOperator)} when concurrent callers of the same argument should
+ * wait for one computation rather than each applying the operator.
+ *
  * @param <T> the result type
  * @author @author <a href="https://github.com/bobaikato">Bobai Kato</a>
  * @see Function
@@ -52,10 +55,10 @@ public final class LazyUnaryOperator<T> implements UnaryOperator<T>, Serializabl
   /**
    * Sealed.
    *
-   * @param operator argument, instance of {@link UnaryOperator}
+   * @param state the memoizing function to delegate to
    */
-  private LazyUnaryOperator(final UnaryOperator<T> operator) {
-    this.state = LazyFunction.of(operator);
+  private LazyUnaryOperator(final Function<T, T> state) {
+    this.state = state;
   }
 
   /**
@@ -71,7 +74,25 @@ public final class LazyUnaryOperator<T> implements UnaryOperator<T>, Serializabl
   @Contract("_ -> new")
   public static <T> @NotNull UnaryOperator<T> of(final UnaryOperator<T> operator) {
     Objects.requireNonNull(operator, "operator cannot be null");
-    return new LazyUnaryOperator<>(operator);
+    return new LazyUnaryOperator<>(LazyFunction.of(operator));
+  }
+
+  /**
+   * Creates a new instance of {@link UnaryOperator} that lazily applies the given {@link
+   * UnaryOperator} at most once at a time per argument: concurrent callers that miss on the same
+   * argument wait for the computation in flight and share its result.
+   *
+   * @param operator the {@link UnaryOperator} to be applied lazily
+   * @param <T> the type of the argument and result of the {@link UnaryOperator}
+   * @return a new single-flight instance of {@link UnaryOperator}
+   * @throws NullPointerException if the {@code operator} is null
+   * @see LazyFunction.Builder#singleFlight()
+   * @since 2.8
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull UnaryOperator<T> singleFlight(final UnaryOperator<T> operator) {
+    Objects.requireNonNull(operator, "operator cannot be null");
+    return new LazyUnaryOperator<>(LazyFunction.builder(operator).singleFlight().build());
   }
 
   /**
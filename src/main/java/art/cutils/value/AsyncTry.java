@@ -0,0 +1,288 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.value;
+
+import art.cutils.function.Accepter;
+import art.cutils.function.Dealer;
+import art.cutils.function.Executable;
+import art.cutils.function.ThrowingFunction;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link AsyncTry} class is the asynchronous counterpart of {@link Try}: the operation runs on
+ * a supplied {@link Executor} instead of the caller thread, and the result is a {@link Try} that
+ * becomes available later.
+ *
+ * <p>Every method other than {@link AsyncTry#toTry()} returns at once. The operations passed to
+ * {@link AsyncTry#map(ThrowingFunction)}, {@link AsyncTry#filter(Predicate)}, {@link
+ * AsyncTry#peek(Accepter)} and the callbacks run on the thread that completes the previous stage,
+ * or on the calling thread if it is already complete, so they should not block.
+ *
+ * <p>Like {@link Try}, an {@link AsyncTry} never fails on its own: exceptions thrown by the
+ * operation, the stages or the executor end up as a {@link Try} in failure state.
+ *
+ * @param <T> type
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Try
+ * @see CompletableFuture
+ * @since v2.8
+ */
+public final class AsyncTry<T> {
+
+  /** Always completes normally, with the outcome as a {@link Try}. */
+  private final CompletableFuture<Try<T>> future;
+
+  @Contract(pure = true)
+  private AsyncTry(final CompletableFuture<Try<T>> future) {
+    this.future = future;
+  }
+
+  /**
+   * Runs a {@link Dealer} type function on the executor.
+   *
+   * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+   * @param executor the executor to run the operation on
+   * @param <T> variable type
+   * @return instance of {@link AsyncTry} completing with the outcome of the operation.
+   * @throws NullPointerException if the operation or executor is null
+   */
+  @Contract("_, _ -> new")
+  public static <T> @NotNull AsyncTry<T> of(
+      final Dealer<? extends T> operation, final Executor executor) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    return AsyncTry.supply(() -> Try.of(operation), executor);
+  }
+
+  /**
+   * Runs an {@link Executable} type function, with no result expected, on the executor.
+   *
+   * @param operation the operation that will be tried, a variable of {@link Executable} type.
+   * @param executor the executor to run the operation on
+   * @param <T> variable type
+   * @return instance of {@link AsyncTry} completing with the outcome of the operation.
+   * @throws NullPointerException if the operation or executor is null
+   */
+  @Contract("_, _ -> new")
+  public static <T> @NotNull AsyncTry<T> of(final Executable operation, final Executor executor) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    return AsyncTry.supply(() -> Try.of(operation), executor);
+  }
+
+  /**
+   * Wraps a {@link Try} that is already complete.
+   *
+   * @param result the outcome
+   * @param <T> variable type
+   * @return instance of {@link AsyncTry} already completed with {@code result}.
+   * @throws NullPointerException if result is null
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull AsyncTry<T> from(final Try<T> result) {
+    Objects.requireNonNull(result, "result cannot be null");
+    return new AsyncTry<>(CompletableFuture.completedFuture(result));
+  }
+
+  /**
+   * Adapts a {@link CompletableFuture}: a normal completion becomes a success with its value and an
+   * exceptional one a failure with its cause.
+   *
+   * @param future the future to adapt
+   * @param <T> variable type
+   * @return instance of {@link AsyncTry} completing when {@code future} does.
+   * @throws NullPointerException if future is null
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull AsyncTry<T> from(final CompletableFuture<? extends T> future) {
+    Objects.requireNonNull(future, "future cannot be null");
+    return new AsyncTry<>(
+        future.handle(
+            (result, cause) ->
+                cause == null ? Try.success(result) : Try.failure(AsyncTry.unwrap(cause))));
+  }
+
+  /**
+   * Wraps a future of the outcome, for the other classes of this package.
+   *
+   * @param future a future that always completes normally
+   * @param <T> variable type
+   * @return instance of {@link AsyncTry} completing when {@code future} does.
+   */
+  @Contract("_ -> new")
+  static <T> @NotNull AsyncTry<T> wrap(final CompletableFuture<Try<T>> future) {
+    return new AsyncTry<>(future);
+  }
+
+  private static <T> @NotNull AsyncTry<T> supply(
+      final Supplier<Try<T>> operation, final Executor executor) {
+    Objects.requireNonNull(executor, "executor cannot be null");
+    try {
+      return new AsyncTry<>(CompletableFuture.supplyAsync(operation, executor));
+    } catch (final RejectedExecutionException e) {
+      return AsyncTry.from(Try.failure(e));
+    }
+  }
+
+  private static Throwable unwrap(final Throwable cause) {
+    return cause instanceof CompletionException && cause.getCause() != null
+        ? cause.getCause()
+        : cause;
+  }
+
+  /**
+   * Once complete, apply the mapping function to the result if present.
+   *
+   * @param mapper a mapping function to apply to the result is available.
+   * @param <M> The type of the result of the mapping function
+   * @return an instance of {@link AsyncTry} completing with the outcome of {@link
+   *     Try#map(ThrowingFunction)}.
+   * @throws NullPointerException if the mapping function is null
+   * @see Try#map(ThrowingFunction)
+   */
+  @Contract("_ -> new")
+  public <M> @NotNull AsyncTry<M> map(final ThrowingFunction<? super T, ? extends M> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    return this.then(result -> result.map(mapper));
+  }
+
+  /**
+   * Once complete, empty the result unless it matches the predicate.
+   *
+   * @param predicate the predicate to apply to a result, if present
+   * @return an instance of {@link AsyncTry} completing with the outcome of {@link
+   *     Try#filter(Predicate)}.
+   * @throws NullPointerException if the predicate is null
+   * @see Try#filter(Predicate)
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncTry<T> filter(final Predicate<? super T> predicate) {
+    Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
+    return this.then(result -> result.filter(predicate));
+  }
+
+  /**
+   * Once complete, perform an action on the result if present.
+   *
+   * @param acceptor the action to be performed on the result if present.
+   * @return an instance of {@link AsyncTry} completing with the outcome of {@link
+   *     Try#peek(Accepter)}.
+   * @throws NullPointerException if the acceptor is null
+   * @see Try#peek(Accepter)
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncTry<T> peek(final Accepter<? super T> acceptor) {
+    Objects.requireNonNull(acceptor, "Accepter cannot be null.");
+    return this.then(result -> result.peek(acceptor));
+  }
+
+  /**
+   * Once complete, invoke the consumer with the result if the operation succeeded with one.
+   *
+   * @param result block of operation to be executed.
+   * @return an instance of {@link AsyncTry} completing after the consumer was invoked.
+   * @throws NullPointerException if the consumer is null
+   * @see Try#onSuccess(Consumer)
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncTry<T> onSuccess(final Consumer<? super T> result) {
+    Objects.requireNonNull(result, "Success result Consumer cannot be null.");
+    return this.then(outcome -> outcome.onSuccess(result));
+  }
+
+  /**
+   * Once complete, invoke the consumer with the cause if the operation failed.
+   *
+   * @param cause the consumer to accept the cause.
+   * @return an instance of {@link AsyncTry} completing after the consumer was invoked.
+   * @throws NullPointerException if the consumer is null
+   * @see Try#onFailure(Consumer)
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncTry<T> onFailure(final Consumer<? super Throwable> cause) {
+    Objects.requireNonNull(cause, "Failure cause Consumer cannot be null.");
+    return this.then(outcome -> outcome.onFailure(cause));
+  }
+
+  /**
+   * Chains a stage, turning whatever it throws into a failure.
+   *
+   * @param stage the stage to apply once this completes
+   * @param <M> The type of the result of the stage
+   * @return an instance of {@link AsyncTry} completing with the outcome of the stage.
+   */
+  private <M> @NotNull AsyncTry<M> then(final Function<Try<T>, Try<M>> stage) {
+    return new AsyncTry<>(
+        this.future.thenApply(
+            result -> {
+              try {
+                return stage.apply(result);
+              } catch (final RuntimeException e) {
+                return Try.failure(e);
+              }
+            }));
+  }
+
+  /**
+   * Use to check whether the outcome is available, so {@link AsyncTry#toTry()} does not block.
+   *
+   * @return {@code true} if the operation and every stage so far have completed.
+   */
+  public boolean isDone() {
+    return this.future.isDone();
+  }
+
+  /**
+   * Waits for the outcome. This is the only blocking method of {@link AsyncTry}.
+   *
+   * @return the outcome as a {@link Try}.
+   */
+  public @NotNull Try<T> toTry() {
+    return this.future.join();
+  }
+
+  /**
+   * Adapts to a {@link CompletableFuture} that completes with the result, {@code null} if there is
+   * none, or exceptionally with the cause of the failure.
+   *
+   * @return a new {@link CompletableFuture}; completing it does not affect this {@link AsyncTry}.
+   */
+  @Contract(" -> new")
+  public @NotNull CompletableFuture<T> toCompletableFuture() {
+    return this.future.thenApply(
+        result -> {
+          if (result.isFailure()) {
+            throw new CompletionException(result.getCause());
+          }
+          return result.get();
+        });
+  }
+}
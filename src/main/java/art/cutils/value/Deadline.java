@@ -0,0 +1,163 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A point in time by which some work should be done, for a task to query so that it can stop early
+ * once there is no time left. It is measured with {@link System#nanoTime()}, so it is only
+ * meaningful within the current JVM.
+ *
+ * <pre>{@code
+ * Syndicate.<Integer>init()
+ *     .add(deadline -> {
+ *       while (moreToDo()) {
+ *         deadline.check();
+ *         doSome();
+ *       }
+ *       return done();
+ *     })
+ *     .apply(1, TimeUnit.SECONDS)
+ *     .results();
+ * }</pre>
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class Deadline {
+
+  private static final Deadline NONE = new Deadline(0L, false);
+
+  /** Timeouts are capped at about 146 years so that the expiry does not overflow. */
+  private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE >> 1;
+
+  /** The {@link System#nanoTime()} at which the deadline expires, if {@link Deadline#bounded}. */
+  private final long nanos;
+
+  private final boolean bounded;
+
+  // Sealed constructor
+  @Contract(pure = true)
+  private Deadline(final long nanos, final boolean bounded) {
+    this.nanos = nanos;
+    this.bounded = bounded;
+  }
+
+  /**
+   * Creates a deadline that expires after the timeout, from now.
+   *
+   * @param timeout the time left until the deadline
+   * @param unit the time unit of the timeout argument
+   * @return new instance of {@link Deadline}
+   * @throws NullPointerException if unit is null
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull Deadline after(final long timeout, final TimeUnit unit) {
+    Objects.requireNonNull(unit, "unit cannot be null");
+    return Deadline.at(System.nanoTime() + Math.min(unit.toNanos(timeout), MAX_TIMEOUT_NANOS));
+  }
+
+  /**
+   * Use to get the deadline that never expires.
+   *
+   * @return the instance of {@link Deadline} that never expires
+   */
+  @Contract(pure = true)
+  public static @NotNull Deadline none() {
+    return Deadline.NONE;
+  }
+
+  /**
+   * Creates a deadline that expires at a {@link System#nanoTime()}, for the other classes of this
+   * package.
+   *
+   * @param nanoTime when the deadline expires
+   * @return new instance of {@link Deadline}
+   */
+  @Contract("_ -> new")
+  static @NotNull Deadline at(final long nanoTime) {
+    return new Deadline(nanoTime, true);
+  }
+
+  /**
+   * Use to get the time left until the deadline.
+   *
+   * @param unit the time unit of the result
+   * @return the time left, zero or negative once expired and {@link Long#MAX_VALUE} for {@link
+   *     Deadline#none()}.
+   */
+  public long remaining(final @NotNull TimeUnit unit) {
+    return this.bounded
+        ? unit.convert(this.nanos - System.nanoTime(), TimeUnit.NANOSECONDS)
+        : Long.MAX_VALUE;
+  }
+
+  /**
+   * Use to check whether the deadline has passed.
+   *
+   * @return {@code true} if there is no time left.
+   */
+  public boolean isExpired() {
+    return this.bounded && this.nanos - System.nanoTime() <= 0L;
+  }
+
+  /**
+   * Use to stop early once the deadline has passed.
+   *
+   * @throws TimeoutException if there is no time left
+   */
+  public void check() throws TimeoutException {
+    if (this.isExpired()) {
+      throw new TimeoutException("deadline expired");
+    }
+  }
+
+  /**
+   * Use to get the earlier of this deadline and another one.
+   *
+   * @param other the other deadline
+   * @return the deadline that expires first
+   * @throws NullPointerException if other is null
+   */
+  @Contract(pure = true)
+  public @NotNull Deadline min(final Deadline other) {
+    Objects.requireNonNull(other, "other cannot be null");
+    if (!other.bounded) {
+      return this;
+    }
+    return !this.bounded || other.nanos - this.nanos < 0L ? other : this;
+  }
+
+  @Override
+  public String toString() {
+    return this.bounded
+        ? "Deadline{remaining=" + this.remaining(TimeUnit.NANOSECONDS) + "ns}"
+        : "Deadline{none}";
+  }
+}
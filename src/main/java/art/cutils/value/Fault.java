@@ -0,0 +1,122 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.value;
+
+import java.util.Objects;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A lightweight failure for expected errors, such as invalid input, reported through {@link Try}.
+ *
+ * <p>A {@link Fault} captures no stack trace and records no suppressed exceptions, so creating one
+ * costs about as much as any small object, and it carries a code to tell failures apart instead. As
+ * it holds no per-throw state, a single instance can be kept in a constant and thrown or passed to
+ * {@link Try#failure(Throwable)} repeatedly, which costs nothing at all:
+ *
+ * <pre>{@code
+ * private static final Fault NOT_A_NUMBER = Fault.of("NOT_A_NUMBER");
+ *
+ * Try<Integer> parse(final String text) {
+ *   return isNumeric(text) ? Try.of(() -> Integer.parseInt(text)) : Try.failure(NOT_A_NUMBER);
+ * }
+ * }</pre>
+ *
+ * <p>Exceptions thrown by the operation passed to {@link Try#of(art.cutils.function.Dealer)} have
+ * captured their stack trace before {@link Try} sees them; only the code throwing them can avoid
+ * that cost, for instance by throwing a {@link Fault}.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Try#fault(String)
+ * @since v2.8
+ */
+public final class Fault extends RuntimeException {
+  private static final long serialVersionUID = -4417254153621457416L;
+
+  /** Identifies the failure. */
+  private final String code;
+
+  /**
+   * Creates a stackless fault.
+   *
+   * @param code the code identifying the failure
+   * @param message the detail message
+   * @param cause the underlying cause, may be null
+   */
+  private Fault(final String code, final String message, final Throwable cause) {
+    super(message, cause, false, false);
+    this.code = code;
+  }
+
+  /**
+   * Creates a fault identified by the code, which is also its message.
+   *
+   * @param code the code identifying the failure
+   * @return a new {@link Fault}
+   * @throws NullPointerException if the code is null
+   */
+  @Contract("_ -> new")
+  public static @NotNull Fault of(final String code) {
+    Objects.requireNonNull(code, "code cannot be null");
+    return new Fault(code, code, null);
+  }
+
+  /**
+   * Creates a fault identified by the code, with a detail message.
+   *
+   * @param code the code identifying the failure
+   * @param message the detail message
+   * @return a new {@link Fault}
+   * @throws NullPointerException if the code is null
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull Fault of(final String code, final String message) {
+    Objects.requireNonNull(code, "code cannot be null");
+    return new Fault(code, message, null);
+  }
+
+  /**
+   * Creates a fault identified by the code, wrapping the cause it was translated from. The stack
+   * trace of the cause, if any, is kept.
+   *
+   * @param code the code identifying the failure
+   * @param cause the underlying cause
+   * @return a new {@link Fault}
+   * @throws NullPointerException if the code is null
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull Fault of(final String code, final Throwable cause) {
+    Objects.requireNonNull(code, "code cannot be null");
+    return new Fault(code, code, cause);
+  }
+
+  /**
+   * Use this method to retrieve the code identifying the failure.
+   *
+   * @return the code
+   */
+  @Contract(pure = true)
+  public @NotNull String getCode() {
+    return this.code;
+  }
+}
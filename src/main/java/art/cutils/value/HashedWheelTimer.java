@@ -0,0 +1,378 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.value;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link HashedWheelTimer} class runs tasks after a delay, for large numbers of short-lived
+ * timers such as request deadlines and delayed retries, where the heap of a {@link
+ * java.util.concurrent.ScheduledThreadPoolExecutor} becomes a point of contention.
+ *
+ * <p>Time is divided into ticks and the timers are kept in a ring of buckets, one bucket per tick,
+ * that a single daemon thread walks once per tick, running the tasks that are due. Scheduling and
+ * cancelling a timer are constant-time: both only append to a lock-free queue, which the thread
+ * drains into, or out of, the buckets on its next tick.
+ *
+ * <p>In exchange, a task runs up to one tick late, and all tasks run on the timer thread, one after
+ * the other, so they should be short. A {@link Pause} runs on a timer with {@link
+ * Pause.Run#async(HashedWheelTimer)}.
+ *
+ * <pre>{@code
+ * final HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 1024);
+ *
+ * final HashedWheelTimer.Timeout deadline =
+ *     timer.schedule(() -> request.cancel(true), 250, TimeUnit.MILLISECONDS);
+ * // ... once the response arrives
+ * deadline.cancel();
+ * }</pre>
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Pause
+ * @since v2.8
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+  private static final AtomicInteger COUNT = new AtomicInteger();
+
+  private final long tickNanos;
+
+  private final Bucket[] wheel;
+
+  private final int mask;
+
+  /** Timers scheduled since the last tick, not yet in a bucket. */
+  private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+
+  /** Timers cancelled since the last tick, still to be removed from their bucket. */
+  private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+  /** The {@link System#nanoTime()} the ticks are counted from. */
+  private final long startTime = System.nanoTime();
+
+  private final Thread worker;
+
+  private volatile boolean closed;
+
+  @Contract(pure = true)
+  private HashedWheelTimer(final long tickNanos, final int wheelSize) {
+    this.tickNanos = tickNanos;
+    this.wheel = new Bucket[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      this.wheel[i] = new Bucket();
+    }
+    this.mask = wheelSize - 1;
+    this.worker = new Thread(this::work, "cutils-wheel-" + COUNT.incrementAndGet());
+    this.worker.setDaemon(true);
+  }
+
+  /**
+   * Creates a timer ticking every 10 milliseconds on a wheel of 512 buckets.
+   *
+   * @return a new, running {@link HashedWheelTimer}
+   */
+  @Contract(" -> new")
+  public static @NotNull HashedWheelTimer create() {
+    return HashedWheelTimer.create(10, TimeUnit.MILLISECONDS, 512);
+  }
+
+  /**
+   * Creates a timer. A shorter tick runs tasks closer to their delay, and a wheel with more buckets
+   * than the longest delay has ticks walks fewer timers per tick.
+   *
+   * @param tick the duration of a tick, the precision of the timer
+   * @param unit the unit of {@code tick}
+   * @param wheelSize the number of buckets, rounded up to a power of two
+   * @return a new, running {@link HashedWheelTimer}
+   * @throws IllegalArgumentException if {@code tick} or {@code wheelSize} is not positive, or
+   *     {@code wheelSize} is greater than 2^30
+   * @throws NullPointerException if the unit is null
+   */
+  @Contract("_, _, _ -> new")
+  public static @NotNull HashedWheelTimer create(
+      final long tick, final TimeUnit unit, final int wheelSize) {
+    Objects.requireNonNull(unit, "unit cannot be null");
+    Validate.isTrue(tick > 0, "tick must be greater than 0.");
+    Validate.isTrue(wheelSize > 0 && wheelSize <= 1 << 30, "wheelSize must be in (0, 2^30].");
+    final int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+    final HashedWheelTimer timer = new HashedWheelTimer(unit.toNanos(tick), size);
+    timer.worker.start();
+    return timer;
+  }
+
+  /**
+   * Schedules the task to run once, on the timer thread, after the delay.
+   *
+   * @param task the task to run
+   * @param delay the delay, run on the next tick if not positive
+   * @param unit the unit of {@code delay}
+   * @return a {@link Timeout} to cancel the task with.
+   * @throws NullPointerException if the task or the unit is null
+   * @throws RejectedExecutionException if the timer is closed
+   */
+  public @NotNull Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+    Objects.requireNonNull(task, "task cannot be null");
+    Objects.requireNonNull(unit, "unit cannot be null");
+    if (this.closed) {
+      throw new RejectedExecutionException("timer is closed");
+    }
+    final long deadline = System.nanoTime() - this.startTime + Math.max(0, unit.toNanos(delay));
+    final Timeout timeout = new Timeout(this, task, deadline < 0 ? Long.MAX_VALUE : deadline);
+    this.scheduled.add(timeout);
+    if (this.closed) {
+      timeout.cancel();
+      throw new RejectedExecutionException("timer is closed");
+    }
+    return timeout;
+  }
+
+  /**
+   * Stops the timer thread. The timers that have not expired are cancelled, and scheduling a new
+   * one throws {@link RejectedExecutionException}. A task already running is not interrupted.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    LockSupport.unpark(this.worker);
+  }
+
+  /** The body of the timer thread. */
+  private void work() {
+    for (long tick = 0; !this.closed; tick++) {
+      final long deadline = this.tickNanos * (tick + 1);
+      if (!this.awaitTick(deadline)) {
+        break;
+      }
+      this.removeCancelled();
+      this.transferScheduled(tick);
+      this.wheel[(int) (tick & this.mask)].expire();
+    }
+    for (final Bucket bucket : this.wheel) {
+      bucket.cancelAll();
+    }
+    for (Timeout timeout; (timeout = this.scheduled.poll()) != null; ) {
+      timeout.cancel();
+    }
+  }
+
+  /**
+   * Parks until the end of the tick.
+   *
+   * @param deadline the end of the tick, relative to {@link HashedWheelTimer#startTime}
+   * @return {@code false} if the timer was closed meanwhile.
+   */
+  private boolean awaitTick(final long deadline) {
+    for (long wait; (wait = deadline - (System.nanoTime() - this.startTime)) > 0; ) {
+      if (this.closed) {
+        return false;
+      }
+      LockSupport.parkNanos(this, wait);
+    }
+    return !this.closed;
+  }
+
+  private void removeCancelled() {
+    for (Timeout timeout; (timeout = this.cancelled.poll()) != null; ) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  private void transferScheduled(final long tick) {
+    for (Timeout timeout; (timeout = this.scheduled.poll()) != null; ) {
+      if (timeout.isCancelled()) {
+        continue;
+      }
+      final long due = Math.max(timeout.deadline / this.tickNanos, tick);
+      timeout.remainingRounds = (due - tick) / this.wheel.length;
+      this.wheel[(int) (due & this.mask)].add(timeout);
+      timeout.inBucket = true;
+    }
+  }
+
+  /**
+   * A task scheduled on a {@link HashedWheelTimer}, used to cancel it.
+   *
+   * @since v2.8
+   */
+  public static final class Timeout {
+
+    private static final int WAITING = 0;
+
+    private static final int CANCELLED = 1;
+
+    private static final int EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private final HashedWheelTimer timer;
+
+    private final Runnable task;
+
+    /** When the task is due, relative to {@link HashedWheelTimer#startTime}. */
+    private final long deadline;
+
+    private volatile int state;
+
+    /** Set once the timer thread has put this timer in a bucket. */
+    private volatile boolean inBucket;
+
+    /* The fields below are only touched by the timer thread. */
+
+    private long remainingRounds;
+
+    private Bucket bucket;
+
+    private Timeout previous;
+
+    private Timeout next;
+
+    @Contract(pure = true)
+    private Timeout(final HashedWheelTimer timer, final Runnable task, final long deadline) {
+      this.timer = timer;
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Cancels the task, unless it has already run or been cancelled. The timer releases the slot on
+     * its next tick.
+     *
+     * @return {@code true} if this call cancelled the task.
+     */
+    public boolean cancel() {
+      if (!STATE.compareAndSet(this, WAITING, CANCELLED)) {
+        return false;
+      }
+      // A timer not yet in a bucket is dropped when the timer thread takes it from the queue, and
+      // one put in a bucket meanwhile is dropped when its bucket is next walked.
+      if (this.inBucket) {
+        this.timer.cancelled.add(this);
+      }
+      return true;
+    }
+
+    /**
+     * Use to check whether the task was cancelled, either by {@link Timeout#cancel()} or by closing
+     * the timer.
+     *
+     * @return {@code true} if the task was cancelled.
+     */
+    @Contract(pure = true)
+    public boolean isCancelled() {
+      return this.state == CANCELLED;
+    }
+
+    /**
+     * Use to check whether the task is no longer waiting.
+     *
+     * @return {@code true} if the task has started running or was cancelled.
+     */
+    @Contract(pure = true)
+    public boolean isDone() {
+      return this.state != WAITING;
+    }
+
+    private void expire() {
+      if (STATE.compareAndSet(this, WAITING, EXPIRED)) {
+        try {
+          this.task.run();
+        } catch (final Throwable ignored) {
+          // The timer thread must outlive failing tasks.
+        }
+      }
+    }
+  }
+
+  /** The timers due on a tick, in a doubly-linked list only touched by the timer thread. */
+  private static final class Bucket {
+
+    private Timeout head;
+
+    private Timeout tail;
+
+    private void add(final @NotNull Timeout timeout) {
+      timeout.bucket = this;
+      if (this.head == null) {
+        this.head = this.tail = timeout;
+      } else {
+        this.tail.next = timeout;
+        timeout.previous = this.tail;
+        this.tail = timeout;
+      }
+    }
+
+    private void remove(final @NotNull Timeout timeout) {
+      final Timeout next = timeout.next;
+      if (timeout.previous != null) {
+        timeout.previous.next = next;
+      }
+      if (next != null) {
+        next.previous = timeout.previous;
+      }
+      if (timeout == this.head) {
+        this.head = next;
+      }
+      if (timeout == this.tail) {
+        this.tail = timeout.previous;
+      }
+      timeout.previous = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+
+    /** Runs the timers due in this round and counts down the others. */
+    private void expire() {
+      for (Timeout timeout = this.head; timeout != null; ) {
+        final Timeout next = timeout.next;
+        if (timeout.remainingRounds <= 0) {
+          this.remove(timeout);
+          timeout.expire();
+        } else if (timeout.isCancelled()) {
+          this.remove(timeout);
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    private void cancelAll() {
+      for (Timeout timeout = this.head; timeout != null; timeout = timeout.next) {
+        timeout.cancel();
+      }
+    }
+  }
+}
@@ -34,8 +34,19 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import art.cutils.function.Dealer;
 import art.cutils.function.Executable;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -43,6 +54,10 @@ import org.jetbrains.annotations.NotNull;
  * Pause helps you write a safe an idiomatic expression to pause an execution on the current
  * execution thread.
  *
+ * <p>In {@link Run#async() async} mode the pause does not hold the current thread: the expression
+ * is scheduled to run after the pause on a {@link ScheduledExecutorService}, so thousands of
+ * delayed expressions can wait on a handful of threads.
+ *
  * @param <T> type.
  * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
  * @since 1.0
@@ -171,6 +186,12 @@ public final class Pause<T> {
     /** Instance of {@link TimeUnit} that is use to interpret the specified time out value. */
     private TimeUnit timeUnit;
 
+    /** Schedules the expressions in async mode, {@code null} to pause the current thread. */
+    private Scheduler scheduler;
+
+    /** The executor or timer the {@link Run#scheduler} adapts, compared in its place. */
+    private Object executor;
+
     /**
      * Sealed. Default run constructor to set timeout value.
      *
@@ -192,6 +213,58 @@ public final class Pause<T> {
       return this;
     }
 
+    /**
+     * Switches to async mode: instead of pausing the current thread, the chained expression is
+     * scheduled on a scheduler shared by all pauses, whose daemon threads run the expressions, so
+     * they should be short.
+     *
+     * @return instance of {@link Run} of the set type.
+     * @since v2.8
+     */
+    @Contract(value = " -> this", mutates = "this")
+    public Run<T> async() {
+      this.scheduler = SharedScheduler.INSTANCE;
+      this.executor = SharedScheduler.INSTANCE;
+      return this;
+    }
+
+    /**
+     * Switches to async mode: instead of pausing the current thread, the chained expression is
+     * scheduled on the given scheduler. For {@link Delay#cancel()} to release the scheduler's slot,
+     * a {@link ScheduledThreadPoolExecutor} should {@link
+     * ScheduledThreadPoolExecutor#setRemoveOnCancelPolicy(boolean) remove tasks on cancel}.
+     *
+     * @param scheduler the scheduler to run the chained expression on after the pause
+     * @return instance of {@link Run} of the set type.
+     * @throws NullPointerException if the scheduler is null
+     * @since v2.8
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public Run<T> async(final ScheduledExecutorService scheduler) {
+      Objects.requireNonNull(scheduler, "scheduler cannot be null");
+      this.scheduler = Pause.adapt(scheduler);
+      this.executor = scheduler;
+      return this;
+    }
+
+    /**
+     * Switches to async mode: instead of pausing the current thread, the chained expression is
+     * scheduled on the given {@link HashedWheelTimer}, whose thread runs the expressions, so they
+     * should be short.
+     *
+     * @param timer the timer to run the chained expression on after the pause
+     * @return instance of {@link Run} of the set type.
+     * @throws NullPointerException if the timer is null
+     * @since v2.8
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public Run<T> async(final HashedWheelTimer timer) {
+      Objects.requireNonNull(timer, "timer cannot be null");
+      this.scheduler = (task, timeOut, timeUnit) -> timer.schedule(task, timeOut, timeUnit)::cancel;
+      this.executor = timer;
+      return this;
+    }
+
     /**
      * This method chains a {@link Executable} expression that execute after the pause.
      *
@@ -201,6 +274,9 @@ public final class Pause<T> {
      */
     @Contract("_ -> new")
     public @NotNull Delay<T> thenRun(final Executable executable) {
+      if (this.scheduler != null) {
+        return new Delay<>(this.timeOut, this.timeUnit, this.scheduler, () -> Try.of(executable));
+      }
       return new Delay<>(this.timeOut, this.timeUnit, executable);
     }
 
@@ -212,6 +288,9 @@ public final class Pause<T> {
      */
     @Contract("_ -> new")
     public @NotNull Delay<T> thenRun(final Dealer<T> dealer) {
+      if (this.scheduler != null) {
+        return new Delay<>(this.timeOut, this.timeUnit, this.scheduler, () -> Try.of(dealer));
+      }
       return new Delay<>(this.timeOut, this.timeUnit, dealer);
     }
 
@@ -222,12 +301,15 @@ public final class Pause<T> {
      */
     @Contract(" -> new")
     public @NotNull Delay<T> empty() {
+      if (this.scheduler != null) {
+        return new Delay<>(this.timeOut, this.timeUnit, this.scheduler, () -> Try.of(() -> {}));
+      }
       return new Delay<>(this.timeOut, this.timeUnit);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(this.timeOut, this.timeUnit);
+      return Objects.hash(this.timeOut, this.timeUnit, this.executor);
     }
 
     @Contract(value = "null -> false", pure = true)
@@ -238,7 +320,9 @@ public final class Pause<T> {
       }
       if (o instanceof Run) {
         final Run<?> run = (Run<?>) o;
-        return this.timeOut == run.timeOut && this.timeUnit == run.timeUnit;
+        return this.timeOut == run.timeOut
+            && this.timeUnit == run.timeUnit
+            && Objects.equals(this.executor, run.executor);
       } else {
         return false;
       }
@@ -247,12 +331,19 @@ public final class Pause<T> {
     /**
      * This class executes the delay and causes the pause before the set operations executed.
      *
+     * <p>In async mode the operations are scheduled to run after the pause and the methods that
+     * need their result wait for it. Until the operations start, the {@link Delay} can be {@link
+     * Delay#cancel() cancelled}.
+     *
      * @param <T> type
      */
     public static final class Delay<T> {
 
-      /** Holds the try result of the {@link Try} operation. */
-      private final Try<T> tryResult;
+      /** Holds the try result of the {@link Try} operation, once the operation has run. */
+      private final CompletableFuture<Try<T>> tryResult;
+
+      /** Cancels the scheduled operation in async mode, {@code null} otherwise. */
+      private final BooleanSupplier canceller;
 
       /**
        * Seal constructor for no expression.
@@ -262,7 +353,8 @@ public final class Pause<T> {
        *     out value
        */
       private Delay(final int timeOut, final TimeUnit timeUnit) {
-        this.tryResult = Try.of(() -> timeUnit.sleep(timeOut));
+        this.tryResult = CompletableFuture.completedFuture(Try.of(() -> timeUnit.sleep(timeOut)));
+        this.canceller = null;
       }
 
       /**
@@ -276,11 +368,13 @@ public final class Pause<T> {
        */
       private Delay(final int timeOut, final TimeUnit timeUnit, final Executable executable) {
         this.tryResult =
-            Try.of(
-                () -> {
-                  timeUnit.sleep(timeOut);
-                  executable.execute();
-                });
+            CompletableFuture.completedFuture(
+                Try.of(
+                    () -> {
+                      timeUnit.sleep(timeOut);
+                      executable.execute();
+                    }));
+        this.canceller = null;
       }
 
       /**
@@ -293,21 +387,112 @@ public final class Pause<T> {
        */
       private Delay(final int timeOut, final TimeUnit timeUnit, final Dealer<T> dealer) {
         this.tryResult =
-            Try.of(
-                () -> {
-                  timeUnit.sleep(timeOut);
-                  return dealer.deal();
-                });
+            CompletableFuture.completedFuture(
+                Try.of(
+                    () -> {
+                      timeUnit.sleep(timeOut);
+                      return dealer.deal();
+                    }));
+        this.canceller = null;
+      }
+
+      /**
+       * Seal constructor for async mode, scheduling the operation instead of pausing.
+       *
+       * @param timeOut Number to be interpreted to time
+       * @param timeUnit Instance of {@link TimeUnit} that is use to interpret the specified time
+       *     out value
+       * @param scheduler the scheduler to run the operation on after the pause
+       * @param operation the operation to be executed after the pause.
+       */
+      private Delay(
+          final int timeOut,
+          final TimeUnit timeUnit,
+          final Scheduler scheduler,
+          final Supplier<Try<T>> operation) {
+        this.tryResult = new CompletableFuture<>();
+        BooleanSupplier canceller = null;
+        try {
+          canceller =
+              scheduler.schedule(
+                  () -> {
+                    if (this.tryResult.isDone()) {
+                      return;
+                    }
+                    try {
+                      this.tryResult.complete(operation.get());
+                    } catch (final Throwable cause) {
+                      this.tryResult.complete(Try.failure(cause));
+                    }
+                  },
+                  timeOut,
+                  timeUnit);
+        } catch (final RejectedExecutionException e) {
+          this.tryResult.complete(Try.failure(e));
+        }
+        this.canceller = canceller;
       }
 
       /**
-       * Retrieves the result of the Try operation.
+       * Retrieves the result of the Try operation, waiting for it in async mode.
        *
        * @return the result of the Try operation
        */
-      @Contract(pure = true)
       public Try<T> get() {
-        return this.tryResult;
+        return this.tryResult.join();
+      }
+
+      /**
+       * Retrieves the result of the Try operation, waiting for it in async mode at most for the
+       * given time.
+       *
+       * @param timeout the maximum time to wait
+       * @param unit the unit of {@code timeout}
+       * @return the result of the Try operation, or a failed {@link Try} with a {@link
+       *     TimeoutException} if it is not available in time, or with an {@link
+       *     InterruptedException} if the current thread was interrupted while waiting.
+       * @throws NullPointerException if the unit is null
+       * @since v2.8
+       */
+      public Try<T> get(final long timeout, final TimeUnit unit) {
+        Objects.requireNonNull(unit, "unit cannot be null");
+        try {
+          return this.tryResult.get(timeout, unit);
+        } catch (final TimeoutException | ExecutionException e) {
+          return Try.failure(e);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return Try.failure(e);
+        }
+      }
+
+      /**
+       * Cancels the operation in async mode if it has not started, releasing its slot in the
+       * scheduler. The result of a cancelled {@link Delay} is a failed {@link Try} with a {@link
+       * CancellationException}. An operation already running is not interrupted, but its result is
+       * discarded.
+       *
+       * @return {@code true} if this call cancelled the {@link Delay}, {@code false} if it had
+       *     completed or was not in async mode.
+       * @since v2.8
+       */
+      public boolean cancel() {
+        if (this.canceller == null
+            || !this.tryResult.complete(Try.failure(new CancellationException()))) {
+          return false;
+        }
+        this.canceller.getAsBoolean();
+        return true;
+      }
+
+      /**
+       * Use to check whether the result is available, so that {@link Delay#get()} does not wait.
+       *
+       * @return {@code true} if the operation has run or the {@link Delay} was cancelled.
+       * @since v2.8
+       */
+      public boolean isDone() {
+        return this.tryResult.isDone();
       }
 
       /**
@@ -317,18 +502,56 @@ public final class Pause<T> {
        * @return the result of the {@link Try} operation.
        */
       public T getResult() {
-        return this.tryResult.get();
+        return this.get().get();
       }
 
+      /**
+       * Passes the result of the {@link Try} operation to the consumer once the operation has run:
+       * at once on the current thread if it has, so that an exception thrown by the consumer
+       * propagates to the caller, or later on the scheduler thread in async mode, where an
+       * exception thrown by the consumer is discarded.
+       *
+       * @param tryResult consumer of the result of the {@link Try} operation.
+       */
       public void onComplete(final @NotNull Consumer<Try<T>> tryResult) {
-        tryResult.accept(this.tryResult);
+        if (this.tryResult.isDone()) {
+          tryResult.accept(this.tryResult.join());
+        } else {
+          this.tryResult.thenAccept(tryResult);
+        }
       }
 
+      /**
+       * Adapts to an {@link AsyncTry} that completes once the operation has run, so that further
+       * operations can be chained without waiting.
+       *
+       * @return instance of {@link AsyncTry} with the result of the {@link Try} operation.
+       * @since v2.8
+       */
+      @Contract(" -> new")
+      public @NotNull AsyncTry<T> toAsyncTry() {
+        return AsyncTry.wrap(this.tryResult);
+      }
+
+      /**
+       * Hashes the result of a {@link Delay} complete on creation, as in blocking mode, and the
+       * identity of a scheduled one, so that it never waits for the operation and never changes.
+       *
+       * @return the hash code of this {@link Delay}
+       */
       @Override
       public int hashCode() {
-        return Objects.hash(this.tryResult);
+        return this.canceller == null ? Objects.hash(this.get()) : System.identityHashCode(this);
       }
 
+      /**
+       * Compares the results of two {@link Delay} complete on creation, as in blocking mode. A
+       * scheduled {@link Delay} is only equal to itself, so that comparing never waits for the
+       * operation.
+       *
+       * @param o the object to compare with
+       * @return {@code true} if equal
+       */
       @Contract(value = "null -> false", pure = true)
       @Override
       public boolean equals(final Object o) {
@@ -337,11 +560,59 @@ public final class Pause<T> {
         }
         if (o instanceof Delay) {
           final Delay<?> delay = (Delay<?>) o;
-          return this.tryResult.equals(delay.tryResult);
+          return this.canceller == null
+              && delay.canceller == null
+              && this.get().equals(delay.get());
         } else {
           return false;
         }
       }
     }
   }
+
+  @Contract(pure = true)
+  private static @NotNull Scheduler adapt(final ScheduledExecutorService scheduler) {
+    return (task, timeOut, timeUnit) -> {
+      final ScheduledFuture<?> future = scheduler.schedule(task, timeOut, timeUnit);
+      return () -> future.cancel(false);
+    };
+  }
+
+  /** Schedules the expression of a {@link Run} in async mode. */
+  @FunctionalInterface
+  private interface Scheduler {
+
+    /**
+     * Schedules the task.
+     *
+     * @param task the task to run after the pause
+     * @param timeOut Number to be interpreted to time
+     * @param timeUnit Instance of {@link TimeUnit} that is use to interpret the specified time out
+     *     value
+     * @return a function cancelling the task.
+     * @throws RejectedExecutionException if the task cannot be scheduled
+     */
+    BooleanSupplier schedule(Runnable task, long timeOut, TimeUnit timeUnit);
+  }
+
+  /** Holds the scheduler shared by the pauses in async mode, created on first use. */
+  private static final class SharedScheduler {
+
+    private static final Scheduler INSTANCE = Pause.adapt(SharedScheduler.create());
+
+    private static @NotNull ScheduledExecutorService create() {
+      final AtomicInteger count = new AtomicInteger();
+      final ScheduledThreadPoolExecutor scheduler =
+          new ScheduledThreadPoolExecutor(
+              Runtime.getRuntime().availableProcessors(),
+              runnable -> {
+                final Thread thread =
+                    new Thread(runnable, "cutils-pause-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      scheduler.setRemoveOnCancelPolicy(true);
+      return scheduler;
+    }
+  }
 }
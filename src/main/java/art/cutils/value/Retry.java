@@ -0,0 +1,344 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.value;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import art.cutils.function.Dealer;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link Retry} class runs an operation again when it fails, waiting longer after each failed
+ * attempt.
+ *
+ * <p>The wait after a failed attempt is picked at random between zero and a ceiling that doubles
+ * with every attempt, from the base back-off up to the maximum back-off ("full jitter"), so that
+ * callers failing together do not retry together. The operation is retried until it succeeds, the
+ * attempts run out, the failure does not match {@link Builder#retryOn(Predicate)}, or the next
+ * attempt would start after the deadline. The outcome is then the one of the last attempt.
+ *
+ * <pre>{@code
+ * final Retry retry =
+ *     Retry.builder()
+ *         .maxAttempts(5)
+ *         .backOff(100, 5_000, TimeUnit.MILLISECONDS)
+ *         .retryOn(IOException.class::isInstance)
+ *         .deadline(30, TimeUnit.SECONDS)
+ *         .build();
+ *
+ * final Try<Order> order = retry.run(() -> client.fetch(id));
+ * final CompletableFuture<Order> later = retry.runAsync(() -> client.fetch(id), scheduler);
+ * }</pre>
+ *
+ * <p>A {@link Retry} is immutable and can be shared between threads.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Try
+ * @since v2.8
+ */
+public final class Retry {
+
+  private final int maxAttempts;
+
+  private final long baseNanos;
+
+  private final long maxNanos;
+
+  private final Predicate<? super Throwable> retryOn;
+
+  /** The time allowed for all attempts and waits, {@code 0} if unbounded. */
+  private final long deadlineNanos;
+
+  @Contract(pure = true)
+  private Retry(final @NotNull Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.baseNanos = builder.baseNanos;
+    this.maxNanos = builder.maxNanos;
+    this.retryOn = builder.retryOn;
+    this.deadlineNanos = builder.deadlineNanos;
+  }
+
+  /**
+   * Creates a {@link Builder} with 3 attempts, a back-off of 100 milliseconds capped at 10 seconds,
+   * retrying on every exception and no deadline.
+   *
+   * @return a new {@link Builder}
+   */
+  @Contract(value = " -> new", pure = true)
+  public static @NotNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Runs the operation on the current thread, sleeping between attempts.
+   *
+   * <p>If the thread is interrupted while waiting, the interrupt status is restored and the outcome
+   * of the last attempt is returned.
+   *
+   * @param operation the operation to try, a variable of {@link Dealer} type.
+   * @param <T> type of the result
+   * @return a successful {@link Try} with the result of the first attempt that succeeded, or the
+   *     failed {@link Try} of the last attempt.
+   * @throws NullPointerException if the operation is null
+   */
+  public <T> @NotNull Try<T> run(final Dealer<? extends T> operation) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    final long start = System.nanoTime();
+    for (int attempt = 1; ; attempt++) {
+      final Try<T> outcome = Try.of(operation);
+      if (outcome.isSuccess()) {
+        return outcome;
+      }
+      final long delay = this.delayAfter(attempt, outcome.getCause(), start);
+      if (delay < 0) {
+        return outcome;
+      }
+      try {
+        NANOSECONDS.sleep(delay);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return outcome;
+      }
+    }
+  }
+
+  /**
+   * Runs the operation on the scheduler, scheduling each retry after its back-off instead of
+   * holding a thread while waiting.
+   *
+   * <p>Cancelling the returned future stops further attempts. If the scheduler rejects an attempt,
+   * the future completes exceptionally with the {@link RejectedExecutionException}, and likewise
+   * with anything thrown by the {@link Builder#retryOn(Predicate) retryOn} predicate.
+   *
+   * @param operation the operation to try, a variable of {@link Dealer} type.
+   * @param scheduler the scheduler to run the attempts on.
+   * @param <T> type of the result
+   * @return a future completed with the result of the first attempt that succeeded, or
+   *     exceptionally with the cause of the last attempt.
+   * @throws NullPointerException if the operation or the scheduler is null
+   */
+  public <T> @NotNull CompletableFuture<T> runAsync(
+      final Dealer<? extends T> operation, final ScheduledExecutorService scheduler) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    Objects.requireNonNull(scheduler, "scheduler cannot be null");
+    final Attempts<T> attempts = new Attempts<>(this, operation, scheduler);
+    try {
+      scheduler.execute(attempts);
+    } catch (final RejectedExecutionException e) {
+      attempts.future.completeExceptionally(e);
+    }
+    return attempts.future;
+  }
+
+  /**
+   * Use to retrieve the maximum number of attempts.
+   *
+   * @return the maximum number of attempts, including the first.
+   */
+  @Contract(pure = true)
+  public int getMaxAttempts() {
+    return this.maxAttempts;
+  }
+
+  /**
+   * Picks the wait before the next attempt.
+   *
+   * @param attempt the number of attempts made so far
+   * @param cause the cause of the last failed attempt
+   * @param start the {@link System#nanoTime()} of the first attempt
+   * @return the wait in nanoseconds, or {@code -1} if the operation should not be retried.
+   */
+  private long delayAfter(final int attempt, final Throwable cause, final long start) {
+    if (attempt >= this.maxAttempts || !this.retryOn.test(cause)) {
+      return -1;
+    }
+    final int shift = Math.min(attempt - 1, Long.SIZE - 2);
+    final long ceiling =
+        this.baseNanos > this.maxNanos >>> shift ? this.maxNanos : this.baseNanos << shift;
+    final long delay =
+        ThreadLocalRandom.current().nextLong(ceiling < Long.MAX_VALUE ? ceiling + 1 : ceiling);
+    if (this.deadlineNanos > 0 && System.nanoTime() - start + delay >= this.deadlineNanos) {
+      return -1;
+    }
+    return delay;
+  }
+
+  /**
+   * The attempts of one {@link Retry#runAsync(Dealer, ScheduledExecutorService)} call, each run of
+   * which is one attempt.
+   *
+   * @param <T> type of the result
+   */
+  private static final class Attempts<T> implements Runnable {
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+
+    private final long start = System.nanoTime();
+
+    private final Retry retry;
+
+    private final Dealer<? extends T> operation;
+
+    private final ScheduledExecutorService scheduler;
+
+    /** Only touched by the attempts, which never overlap. */
+    private int attempt;
+
+    @Contract(pure = true)
+    private Attempts(
+        final Retry retry,
+        final Dealer<? extends T> operation,
+        final ScheduledExecutorService scheduler) {
+      this.retry = retry;
+      this.operation = operation;
+      this.scheduler = scheduler;
+    }
+
+    @Override
+    public void run() {
+      if (this.future.isDone()) {
+        return;
+      }
+      try {
+        final Try<T> outcome = Try.of(this.operation);
+        if (outcome.isSuccess()) {
+          this.future.complete(outcome.get());
+          return;
+        }
+        final long delay = this.retry.delayAfter(++this.attempt, outcome.getCause(), this.start);
+        if (delay < 0) {
+          this.future.completeExceptionally(outcome.getCause());
+          return;
+        }
+        this.scheduler.schedule(this, delay, NANOSECONDS);
+      } catch (final Throwable e) {
+        // Thrown on the scheduler thread, it would otherwise leave the future incomplete.
+        this.future.completeExceptionally(e);
+      }
+    }
+  }
+
+  /** Builder for {@link Retry}. */
+  public static final class Builder {
+
+    private int maxAttempts = 3;
+
+    private long baseNanos = MILLISECONDS.toNanos(100);
+
+    private long maxNanos = SECONDS.toNanos(10);
+
+    private Predicate<? super Throwable> retryOn = cause -> true;
+
+    private long deadlineNanos;
+
+    @Contract(pure = true)
+    private Builder() {}
+
+    /**
+     * Sets the maximum number of attempts, including the first.
+     *
+     * @param maxAttempts a positive number of attempts
+     * @return this {@link Builder}
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+     */
+    @Contract("_ -> this")
+    public Builder maxAttempts(final int maxAttempts) {
+      Validate.isTrue(maxAttempts > 0, "maxAttempts must be greater than 0.");
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Sets the back-off. The wait after the n-th failed attempt is picked at random between zero
+     * and {@code base * 2^(n - 1)}, capped at {@code max}.
+     *
+     * @param base the ceiling of the first wait, zero to retry immediately
+     * @param max the ceiling of any wait, not less than {@code base}
+     * @param unit the unit of {@code base} and {@code max}
+     * @return this {@link Builder}
+     * @throws IllegalArgumentException if {@code base} is negative or greater than {@code max}
+     * @throws NullPointerException if the unit is null
+     */
+    @Contract("_, _, _ -> this")
+    public Builder backOff(final long base, final long max, final TimeUnit unit) {
+      Objects.requireNonNull(unit, "unit cannot be null");
+      Validate.isTrue(base >= 0, "base cannot be negative.");
+      Validate.isTrue(base <= max, "base cannot be greater than max.");
+      this.baseNanos = unit.toNanos(base);
+      this.maxNanos = unit.toNanos(max);
+      return this;
+    }
+
+    /**
+     * Sets which failures are retried. A failure not matching the predicate is returned at once.
+     *
+     * @param retryOn the predicate a failure's cause must match to be retried
+     * @return this {@link Builder}
+     * @throws NullPointerException if the predicate is null
+     */
+    @Contract("_ -> this")
+    public Builder retryOn(final Predicate<? super Throwable> retryOn) {
+      this.retryOn = Objects.requireNonNull(retryOn, "retryOn cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the time allowed for all attempts and waits, measured from the first attempt. No attempt
+     * is started after it, and a wait that would end after it is not started.
+     *
+     * @param duration the positive time allowed
+     * @param unit the unit of {@code duration}
+     * @return this {@link Builder}
+     * @throws IllegalArgumentException if {@code duration} is not positive
+     * @throws NullPointerException if the unit is null
+     */
+    @Contract("_, _ -> this")
+    public Builder deadline(final long duration, final TimeUnit unit) {
+      Objects.requireNonNull(unit, "unit cannot be null");
+      Validate.isTrue(duration > 0, "duration must be greater than 0.");
+      this.deadlineNanos = unit.toNanos(duration);
+      return this;
+    }
+
+    /**
+     * Builds the {@link Retry}.
+     *
+     * @return a new {@link Retry}
+     */
+    @Contract(" -> new")
+    public @NotNull Retry build() {
+      return new Retry(this);
+    }
+  }
+}
@@ -24,22 +24,59 @@
 package art.cutils.value;
 
 import art.cutils.function.Accepter;
+import art.cutils.function.Dealer;
+import art.cutils.function.ThrowingFunction;
+import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Closeable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Syndicate simplifies and represent a specific operation of the Executor Service, InvokeAll. Use
@@ -62,6 +99,10 @@ import java.util.function.Consumer;
  */
 public final class Syndicate<T> implements AutoCloseable {
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<Syndicate, Latencies> LATENCIES =
+      AtomicReferenceFieldUpdater.newUpdater(Syndicate.class, Latencies.class, "latencies");
+
   /**
    * An Executor that provides methods to manage termination and methods that can produce a Future
    * for tracking progress of one or more asynchronous tasks.
@@ -71,9 +112,18 @@ public final class Syndicate<T> implements AutoCloseable {
   /** This list of task to be executed. */
   private final Collection<Callable<T>> taskList = new ArrayList<>();
 
+  /** The permits for the tasks in flight, {@code null} unless {@link Syndicate#limit(int)}. */
+  private Semaphore permits;
+
+  /** The maximum number of tasks in flight set with {@link Syndicate#limit(int)}. */
+  private int maxInFlight = Integer.MAX_VALUE;
+
+  /** The recent latencies of {@link Syndicate#hedge(Callable)}, created on first use. */
+  private volatile Latencies latencies;
+
   // Sealed constructor
   private Syndicate() {
-    this.es = Executors.newCachedThreadPool();
+    this.es = Syndicate.borrowSharedPool();
   }
 
   // Sealed constructor
@@ -95,8 +145,15 @@ public final class Syndicate<T> implements AutoCloseable {
   }
 
   /**
-   * Creates a new instance of {@link Syndicate} with default {@link
-   * Executors#newCachedThreadPool()}
+   * Creates a new instance of {@link Syndicate} borrowing the threads of a process-wide pool of
+   * daemon threads, which grows with the load and keeps its threads for reuse, so that creating a
+   * {@link Syndicate} per request does not create threads per request. {@link Syndicate#close()}
+   * only concerns the tasks of this instance, never the pool.
+   *
+   * <p>The pool runs at most 64 threads per processor and queues at most 16384 further tasks per
+   * processor. Past that, a task is rejected, never run on the thread submitting it: its outcome is
+   * a failure with a {@link RejectedExecutionException}. Give bursts of long blocking tasks an
+   * executor of their own with {@link Syndicate#init(ExecutorService)}.
    *
    * @param <T> the type of the values from the tasks
    * @return new instance of {@link Syndicate}
@@ -106,6 +163,44 @@ public final class Syndicate<T> implements AutoCloseable {
     return new Syndicate<>();
   }
 
+  /**
+   * Creates a new instance of {@link Syndicate} running each task on a virtual thread of its own,
+   * so that thousands of blocking tasks do not hold thousands of platform threads. Virtual threads
+   * need Java 21; on earlier versions the tasks borrow the shared pool of {@link Syndicate#init()}.
+   *
+   * @param <T> the type of the values from the tasks
+   * @return new instance of {@link Syndicate}
+   * @see Syndicate#supportsVirtualThreads()
+   * @since v2.8
+   */
+  @Contract(" -> new")
+  public static <T> @NotNull Syndicate<T> initVirtual() {
+    return new Syndicate<>(VirtualThreads.newPerTaskExecutor());
+  }
+
+  /**
+   * Creates an executor running its tasks on the threads of the process-wide pool of {@link
+   * Syndicate#init()}, whose shutdown leaves the pool running.
+   *
+   * @return a new view of the shared pool.
+   */
+  @Contract(" -> new")
+  static @NotNull ExecutorService borrowSharedPool() {
+    return new Borrowed(SharedPool.INSTANCE);
+  }
+
+  /**
+   * Use to check whether {@link Syndicate#initVirtual()} runs the tasks on virtual threads, which
+   * needs Java 21.
+   *
+   * @return {@code true} if the tasks run on virtual threads.
+   * @since v2.8
+   */
+  @Contract(pure = true)
+  public static boolean supportsVirtualThreads() {
+    return VirtualThreads.isSupported();
+  }
+
   /**
    * Use to add a task of Callable type
    *
@@ -119,6 +214,246 @@ public final class Syndicate<T> implements AutoCloseable {
     return this;
   }
 
+  /**
+   * Use to add a task that can query its {@link Deadline} to stop early. The deadline is the
+   * timeout of {@link Syndicate#apply(long, TimeUnit)}, or the {@link Conductor#taskTimeout(long,
+   * TimeUnit)} from when the task starts if that is earlier, and {@link Deadline#none()} without
+   * either.
+   *
+   * @param deadlineTask the task to be executed as part of the {@link Syndicate}, given its
+   *     deadline
+   * @return existing instance of {@link Syndicate}
+   * @throws NullPointerException if deadlineTask is null
+   * @since v2.8
+   */
+  @Contract("_ -> this")
+  public Syndicate<T> add(final ThrowingFunction<? super Deadline, ? extends T> deadlineTask) {
+    this.taskList.add(new DeadlineTask<>(deadlineTask));
+    return this;
+  }
+
+  /**
+   * Use to cap the number of tasks in flight, submitted but not yet completed, at {@code
+   * maxInFlight}. Past the limit, {@link Syndicate#submit(Callable)} blocks, {@link
+   * Syndicate#trySubmit(Callable)} fails fast, and the completion-order iterators and streams pull
+   * the next task from their source only once a task completes and its outcome is consumed, so that
+   * memory stays proportional to {@code maxInFlight} rather than to the number of tasks.
+   *
+   * <p>The limit applies to the tasks submitted after this call; {@link Conductor#execute()} still
+   * submits all the added tasks at once.
+   *
+   * @param maxInFlight the maximum number of tasks in flight
+   * @return existing instance of {@link Syndicate}
+   * @throws IllegalArgumentException if maxInFlight is not greater than 0
+   * @since v2.8
+   */
+  @Contract("_ -> this")
+  public Syndicate<T> limit(final int maxInFlight) {
+    Validate.isTrue(maxInFlight > 0, "maxInFlight must be greater than 0.");
+    this.permits = new Semaphore(maxInFlight);
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * Use to run a task right away, waiting for a task in flight to complete first if the {@link
+   * Syndicate#limit(int)} is reached.
+   *
+   * @param task the task to run
+   * @return an {@link AsyncTry} completing with the outcome of the task, a failure with an {@link
+   *     InterruptedException} if the current thread was interrupted while waiting.
+   * @throws NullPointerException if task is null
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncTry<T> submit(final Callable<T> task) {
+    Objects.requireNonNull(task, "task cannot be null");
+    final Semaphore permits = this.permits;
+    if (permits != null) {
+      try {
+        permits.acquire();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return AsyncTry.from(Try.failure(e));
+      }
+    }
+    return this.run(new Permit<>(task, permits));
+  }
+
+  /**
+   * Use to run a task right away unless the {@link Syndicate#limit(int)} is reached.
+   *
+   * @param task the task to run
+   * @return an {@link AsyncTry} completing with the outcome of the task, already a failure with a
+   *     {@link RejectedExecutionException} if the limit is reached.
+   * @throws NullPointerException if task is null
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncTry<T> trySubmit(final Callable<T> task) {
+    Objects.requireNonNull(task, "task cannot be null");
+    final Semaphore permits = this.permits;
+    if (permits != null && !permits.tryAcquire()) {
+      return AsyncTry.from(
+          Try.failure(
+              new RejectedExecutionException(
+                  "limit of " + this.maxInFlight + " tasks in flight reached")));
+    }
+    return this.run(new Permit<>(task, permits));
+  }
+
+  private @NotNull AsyncTry<T> run(final @NotNull Permit<T> permit) {
+    final Dealer<T> task = permit::call;
+    try {
+      return AsyncTry.wrap(CompletableFuture.supplyAsync(() -> Try.of(task), this.es));
+    } catch (final RejectedExecutionException e) {
+      permit.release();
+      return AsyncTry.from(Try.failure(e));
+    }
+  }
+
+  /**
+   * Use to set the percentile of the recent latencies of {@link Syndicate#hedge(Callable)} after
+   * which a backup copy of a task is started, {@code 0.95} by default. Resets the recorded
+   * latencies.
+   *
+   * @param percentile the percentile, greater than 0 and at most 1
+   * @return existing instance of {@link Syndicate}
+   * @throws IllegalArgumentException if percentile is not greater than 0 and at most 1
+   * @since v2.8
+   */
+  @Contract("_ -> this")
+  public Syndicate<T> hedgeAt(final double percentile) {
+    Validate.isTrue(
+        percentile > 0 && percentile <= 1, "percentile must be greater than 0 and at most 1.");
+    this.latencies = new Latencies(percentile);
+    return this;
+  }
+
+  /**
+   * Runs a task and, if it has not completed once the {@link Syndicate#hedgeAt(double) percentile}
+   * of the recent latencies has passed, a backup copy of it, then returns whichever outcome comes
+   * first, cancelling the other copy. This cuts the tail latency of idempotent calls to replicated
+   * backends at the cost of a few extra calls.
+   *
+   * <p>The delay adapts to the latencies of the successful calls of this {@link Syndicate}; until
+   * enough have been recorded, no backup is started. With a {@link Syndicate#limit(int)}, the task
+   * waits for a permit and the backup is only started if a permit is free. A backup the executor
+   * rejects is skipped. If the first copy to complete fails while the other is still running, the
+   * other one is waited for.
+   *
+   * @param task the idempotent task to run
+   * @return the {@link Try} outcome of the first copy to complete, a failure with an {@link
+   *     InterruptedException} if the current thread was interrupted while waiting.
+   * @throws NullPointerException if task is null
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public @NotNull Try<T> hedge(final Callable<T> task) {
+    Objects.requireNonNull(task, "task cannot be null");
+    Latencies latencies = this.latencies;
+    if (latencies == null) {
+      // Installed only if unset, so racing first calls share one window and keep a hedgeAt.
+      LATENCIES.compareAndSet(this, null, new Latencies(0.95));
+      latencies = this.latencies;
+    }
+    final CompletionService<T> completionService = new ExecutorCompletionService<>(this.es);
+    Permit<T> primary = null;
+    Permit<T> backup = null;
+    Future<T> primaryFuture = null;
+    Future<T> backupFuture = null;
+    try {
+      if (this.permits != null) {
+        this.permits.acquire();
+      }
+      primary = new Permit<>(task, this.permits);
+      final long start = System.nanoTime();
+      primaryFuture = completionService.submit(primary);
+      final long delay = latencies.delayNanos();
+      Future<T> done =
+          delay < 0L
+              ? completionService.take()
+              : completionService.poll(delay, TimeUnit.NANOSECONDS);
+      if (done == null) {
+        if (this.permits == null || this.permits.tryAcquire()) {
+          backup = new Permit<>(task, this.permits);
+          try {
+            backupFuture = completionService.submit(backup);
+          } catch (final RejectedExecutionException e) {
+            // The primary copy is still running, so its outcome is waited for alone.
+            backup.release();
+          }
+        }
+        done = completionService.take();
+      }
+      Try<T> outcome = Completions.outcome(done);
+      if (outcome.isFailure() && backupFuture != null) {
+        outcome = Completions.outcome(completionService.take());
+      }
+      if (outcome.isSuccess()) {
+        latencies.record(System.nanoTime() - start);
+      }
+      return outcome;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Try.failure(e);
+    } catch (final RejectedExecutionException e) {
+      return Try.failure(e);
+    } finally {
+      Syndicate.cancel(primaryFuture, primary);
+      Syndicate.cancel(backupFuture, backup);
+    }
+  }
+
+  private static <T> void cancel(final Future<T> future, final Permit<T> permit) {
+    if (future != null) {
+      future.cancel(true);
+    }
+    if (permit != null) {
+      permit.release();
+    }
+  }
+
+  /**
+   * Runs the tasks of the source and returns an {@link Iterator} over their outcomes in the order
+   * the tasks complete. The tasks are pulled from the source as {@link Iterator#next()} is called,
+   * keeping at most the {@link Syndicate#limit(int)} in flight; without a limit they are all
+   * submitted at once.
+   *
+   * @param source the tasks to run, pulled lazily
+   * @return an {@link Iterator} over the {@link Try} outcome of each task, in completion order
+   * @throws NullPointerException if source is null
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public @NotNull Iterator<Try<T>> iterator(final Iterator<? extends Callable<T>> source) {
+    Objects.requireNonNull(source, "source cannot be null");
+    return new Completions<>(this, source, Deadline.none(), 0L, false);
+  }
+
+  /**
+   * Runs the tasks of the source and returns a sequential {@link Stream} of their outcomes in the
+   * order the tasks complete, see {@link Syndicate#iterator(Iterator)}. Closing the returned stream
+   * closes the source and cancels the tasks that have not completed yet.
+   *
+   * @param source the tasks to run, pulled lazily
+   * @return a {@link Stream} of the {@link Try} outcome of each task, in completion order
+   * @throws NullPointerException if source is null
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public @NotNull Stream<Try<T>> stream(final Stream<? extends Callable<T>> source) {
+    Objects.requireNonNull(source, "source cannot be null");
+    final Completions<T> completions =
+        new Completions<>(this, source.iterator(), Deadline.none(), 0L, false);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                completions, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(completions::cancel)
+        .onClose(source::close);
+  }
+
   /**
    * Created the {@link Conductor} to initiate the processing of task in the Syndicate
    *
@@ -226,6 +561,9 @@ public final class Syndicate<T> implements AutoCloseable {
     /** unit the time unit of the timeout argument */
     private TimeUnit unit;
 
+    /** The maximum time each task may run for, in nanoseconds, 0 for no limit. */
+    private long taskTimeoutNanos = 0L;
+
     /**
      * Constructor with the {@link Syndicate} instance.
      *
@@ -270,20 +608,202 @@ public final class Syndicate<T> implements AutoCloseable {
      */
     @Contract(" -> new")
     public @NotNull Conductor<T> execute() {
+      final Collection<Callable<T>> tasks = this.bind(this.deadline());
       this.tryFutureList =
           Try.of(
               () -> {
                 if (this.timeout > 0L && Objects.nonNull(this.unit)) {
-                  return this.syndicate.es.invokeAll(
-                      this.syndicate.taskList, this.timeout, this.unit);
+                  return this.syndicate.es.invokeAll(tasks, this.timeout, this.unit);
                 } else {
-                  return this.syndicate.es.invokeAll(this.syndicate.taskList);
+                  return this.syndicate.es.invokeAll(tasks);
                 }
               });
 
       return this;
     }
 
+    /**
+     * Use to limit how long each task may run for, from when it starts, with the tasks pulled
+     * lazily: {@link Conductor#results()}, {@link Conductor#iterator()} and the methods based on
+     * it. A task still running after the task timeout is cancelled and its outcome is a failed
+     * {@link Try} with a {@link TimeoutException}. A task that ignores interruption keeps its
+     * thread busy until it ends, but no longer holds a permit of the {@link Syndicate#limit(int)}.
+     *
+     * @param timeout the maximum time each task may run for
+     * @param unit the time unit of the timeout argument
+     * @return existing instance of {@link Conductor}
+     * @throws IllegalArgumentException if timeout is not greater than 0
+     * @throws NullPointerException if unit is null
+     * @since v2.8
+     */
+    @Contract("_, _ -> this")
+    public @NotNull Conductor<T> taskTimeout(final long timeout, final TimeUnit unit) {
+      Validate.isTrue(timeout > 0L, "timeout must be greater than 0.");
+      Objects.requireNonNull(unit, "unit cannot be null");
+      this.taskTimeoutNanos = unit.toNanos(timeout);
+      return this;
+    }
+
+    /**
+     * Executes the given tasks and returns their outcomes in the order the tasks were added, as
+     * plain {@link Try} values rather than {@link Future}s. A task cut short by the timeout of
+     * {@link Syndicate#apply(long, TimeUnit)} or by the {@link Conductor#taskTimeout(long,
+     * TimeUnit)} fails with a {@link TimeoutException}. Honours the {@link Syndicate#limit(int)},
+     * see {@link Conductor#iterator()}.
+     *
+     * @return the {@link Try} outcome of each task, in the order the tasks were added
+     * @since v2.8
+     */
+    @Contract(" -> new")
+    @SuppressWarnings("unchecked")
+    public @NotNull List<Try<T>> results() {
+      final Try<T>[] results = new Try[this.syndicate.taskList.size()];
+      final Completions<T> completions = this.completions();
+      while (completions.hasNext()) {
+        final Try<T> outcome = completions.next();
+        results[completions.index] =
+            completions.expired instanceof TimeoutException
+                    && outcome.getCause() instanceof CancellationException
+                ? Try.failure(completions.expired)
+                : outcome;
+      }
+      return Arrays.asList(results);
+    }
+
+    /**
+     * Executes the given tasks and returns an {@link Iterator} over their outcomes in the order the
+     * tasks complete, so that fast results can be processed while slower tasks are still running.
+     * {@link Iterator#next()} waits for the next task to complete.
+     *
+     * <p>If a timeout was set with {@link Syndicate#apply(long, TimeUnit)}, the tasks not completed
+     * when it expires are cancelled, like with {@link Conductor#execute()}, and their outcome is a
+     * failed {@link Try} with a {@link CancellationException}. With a {@link Syndicate#limit(int)},
+     * the tasks are submitted as earlier outcomes are consumed, see {@link
+     * Syndicate#iterator(Iterator)}.
+     *
+     * @return an {@link Iterator} over the {@link Try} outcome of each task, in completion order
+     * @since v2.8
+     */
+    @Contract(" -> new")
+    public @NotNull Iterator<Try<T>> iterator() {
+      return this.completions();
+    }
+
+    /**
+     * Executes the given tasks and returns a sequential {@link Stream} of their outcomes in the
+     * order the tasks complete, see {@link Conductor#iterator()}. Closing the stream cancels the
+     * tasks that have not completed yet.
+     *
+     * @return a {@link Stream} of the {@link Try} outcome of each task, in completion order
+     * @since v2.8
+     */
+    @Contract(" -> new")
+    public @NotNull Stream<Try<T>> stream() {
+      final Completions<T> completions = this.completions();
+      final int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+      return StreamSupport.stream(
+              Spliterators.spliterator(
+                  completions, this.syndicate.taskList.size(), characteristics),
+              false)
+          .onClose(completions::cancel);
+    }
+
+    /**
+     * Executes the given tasks and returns their results in task order, or stops at the first
+     * failure and cancels the tasks not yet completed, so that a batch that can no longer succeed
+     * does not wait for the rest of it. Honours the timeout and the {@link Syndicate#limit(int)},
+     * see {@link Conductor#iterator()}.
+     *
+     * @return a {@link Try} of the results of all the tasks in the order they were added, or the
+     *     first failure in completion order.
+     * @since v2.8
+     */
+    @Contract(" -> new")
+    @SuppressWarnings("unchecked")
+    public @NotNull Try<List<T>> failFast() {
+      final Object[] results = new Object[this.syndicate.taskList.size()];
+      final Completions<T> completions = this.completions();
+      while (completions.hasNext()) {
+        final Try<T> outcome = completions.next();
+        if (outcome.isFailure()) {
+          completions.cancel();
+          return Try.failure(outcome.getCause());
+        }
+        results[completions.index] = outcome.get();
+      }
+      return Try.success(Collections.unmodifiableList(Arrays.asList((T[]) results)));
+    }
+
+    /**
+     * Executes the given tasks and returns the result of the first to succeed, cancelling the
+     * others, like {@link ExecutorService#invokeAny(Collection)} but without waiting for the tasks
+     * that have not failed yet once one succeeds. Use it to query redundant replicas, where the
+     * fastest answer wins. Honours the timeout and the {@link Syndicate#limit(int)}, see {@link
+     * Conductor#iterator()}.
+     *
+     * @return a {@link Try} of the first successful result, or of the last failure if none succeeds
+     *     or with a {@link NoSuchElementException} if there is no task.
+     * @since v2.8
+     */
+    @Contract(" -> new")
+    public @NotNull Try<T> firstSuccess() {
+      final Completions<T> completions = this.completions();
+      Try<T> outcome = Try.failure(new NoSuchElementException("no task to execute"));
+      while (completions.hasNext()) {
+        outcome = completions.next();
+        if (outcome.isSuccess()) {
+          completions.cancel();
+          return outcome;
+        }
+      }
+      return outcome;
+    }
+
+    private @NotNull Deadline deadline() {
+      return this.timeout > 0L && Objects.nonNull(this.unit)
+          ? Deadline.after(this.timeout, this.unit)
+          : Deadline.none();
+    }
+
+    private @NotNull Completions<T> completions() {
+      return new Completions<>(
+          this.syndicate,
+          this.syndicate.taskList.iterator(),
+          this.deadline(),
+          this.taskTimeoutNanos,
+          true);
+    }
+
+    /** Gives the tasks added with a {@link Deadline} the one of this batch. */
+    private @NotNull Collection<Callable<T>> bind(final @NotNull Deadline deadline) {
+      final Collection<Callable<T>> tasks = this.syndicate.taskList;
+      if (tasks.stream().noneMatch(DeadlineTask.class::isInstance)) {
+        return tasks;
+      }
+      final List<Callable<T>> bound = new ArrayList<>(tasks.size());
+      for (final Callable<T> task : tasks) {
+        bound.add(
+            task instanceof DeadlineTask ? () -> ((DeadlineTask<T>) task).call(deadline) : task);
+      }
+      return bound;
+    }
+
+    /**
+     * Executes the given tasks and passes the outcome of each to the consumer as soon as the task
+     * completes, in completion order, on the current thread. Returns when every task has completed,
+     * see {@link Conductor#iterator()}.
+     *
+     * @param resultConsumer the consumer to accept the {@link Try} outcome of each task
+     * @return an instance of {@link Close} to close the {@link Syndicate} with
+     * @since v2.8
+     */
+    @Contract("_ -> new")
+    public @NotNull Close<T> onEach(final @NotNull Consumer<? super Try<T>> resultConsumer) {
+      Objects.requireNonNull(resultConsumer, "resultConsumer cannot be null");
+      this.iterator().forEachRemaining(resultConsumer);
+      return new Close<>(this);
+    }
+
     /**
      * Get the list of Futures hold the results.
      *
@@ -301,6 +821,7 @@ public final class Syndicate<T> implements AutoCloseable {
           .append(this.syndicate)
           .append(this.timeout)
           .append(this.unit)
+          .append(this.taskTimeoutNanos)
           .toHashCode();
     }
 
@@ -318,6 +839,7 @@ public final class Syndicate<T> implements AutoCloseable {
             .append(this.timeout, conductor.timeout)
             .append(this.syndicate, conductor.syndicate)
             .append(this.unit, conductor.unit)
+            .append(this.taskTimeoutNanos, conductor.taskTimeoutNanos)
             .isEquals();
       }
       return false;
@@ -333,10 +855,635 @@ public final class Syndicate<T> implements AutoCloseable {
           + this.timeout
           + ", unit="
           + this.unit
+          + ", taskTimeoutNanos="
+          + this.taskTimeoutNanos
           + '}';
     }
   }
 
+  /**
+   * A window of the most recent latencies of {@link Syndicate#hedge(Callable)}, recorded without
+   * locking and sorted on read, which stays cheap next to the calls worth hedging.
+   */
+  private static final class Latencies {
+
+    /** The number of latencies kept, a power of two. */
+    private static final int WINDOW = 128;
+
+    /** The number of latencies needed before a percentile is trusted. */
+    private static final int MIN_SAMPLES = 16;
+
+    private final AtomicLongArray samples = new AtomicLongArray(Latencies.WINDOW);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final double percentile;
+
+    @Contract(pure = true)
+    private Latencies(final double percentile) {
+      this.percentile = percentile;
+    }
+
+    private void record(final long nanos) {
+      final int slot = (int) (this.count.getAndIncrement() & (Latencies.WINDOW - 1));
+      this.samples.set(slot, nanos);
+    }
+
+    /**
+     * Use to get the delay after which to start a backup copy.
+     *
+     * @return the percentile of the recorded latencies in nanoseconds, -1 if too few are recorded.
+     */
+    private long delayNanos() {
+      final int size = (int) Math.min(this.count.get(), Latencies.WINDOW);
+      if (size < Latencies.MIN_SAMPLES) {
+        return -1L;
+      }
+      final long[] sorted = new long[size];
+      for (int i = 0; i < size; i++) {
+        sorted[i] = this.samples.get(i);
+      }
+      Arrays.sort(sorted);
+      return sorted[(int) Math.ceil(this.percentile * size) - 1];
+    }
+  }
+
+  /**
+   * A task added with {@link Syndicate#add(ThrowingFunction)}, given its {@link Deadline}.
+   *
+   * @param <T> the type of the values from the tasks
+   */
+  private static final class DeadlineTask<T> implements Callable<T> {
+
+    private final ThrowingFunction<? super Deadline, ? extends T> task;
+
+    @Contract(pure = true)
+    private DeadlineTask(final ThrowingFunction<? super Deadline, ? extends T> task) {
+      this.task = Objects.requireNonNull(task, "deadlineTask cannot be null");
+    }
+
+    @Override
+    public T call() throws Exception {
+      return this.call(Deadline.none());
+    }
+
+    private T call(final @NotNull Deadline deadline) throws Exception {
+      return this.task.apply(deadline);
+    }
+  }
+
+  /**
+   * A task holding one of the permits of {@link Syndicate#limit(int)} until it ends or is
+   * cancelled, along with what {@link Completions} tracks of it.
+   *
+   * @param <T> the type of the values from the tasks
+   */
+  private static final class Permit<T> implements Callable<T> {
+
+    private final Callable<T> task;
+
+    /** The permits to release one of, {@code null} without a limit. */
+    private final Semaphore permits;
+
+    private final AtomicBoolean held = new AtomicBoolean(true);
+
+    /** The deadline of the whole batch. */
+    private final Deadline deadline;
+
+    private final long taskTimeoutNanos;
+
+    /** Where the task announces it started, {@code null} without a task timeout. */
+    private final Queue<Permit<T>> starts;
+
+    /** The position of the task in its source. */
+    private final int index;
+
+    /** The {@link System#nanoTime()} the task started at, once {@link Permit#starts} is set. */
+    private volatile long started;
+
+    /** The future of the task once submitted, only used by {@link Completions}. */
+    private Future<T> future;
+
+    /** The outcome of the task once complete, only used by {@link Completions}. */
+    private Try<T> outcome;
+
+    @Contract(pure = true)
+    private Permit(final Callable<T> task, final Semaphore permits) {
+      this(task, permits, Deadline.none(), 0L, null, 0);
+    }
+
+    @Contract(pure = true)
+    private Permit(
+        final Callable<T> task,
+        final Semaphore permits,
+        final Deadline deadline,
+        final long taskTimeoutNanos,
+        final Queue<Permit<T>> starts,
+        final int index) {
+      this.task = Objects.requireNonNull(task, "task cannot be null");
+      this.permits = permits;
+      this.deadline = deadline;
+      this.taskTimeoutNanos = taskTimeoutNanos;
+      this.starts = starts;
+      this.index = index;
+    }
+
+    @Override
+    public T call() throws Exception {
+      try {
+        Deadline deadline = this.deadline;
+        if (this.starts != null) {
+          final long started = System.nanoTime();
+          this.started = started;
+          this.starts.add(this);
+          deadline = deadline.min(Deadline.at(started + this.taskTimeoutNanos));
+        }
+        return this.task instanceof DeadlineTask
+            ? ((DeadlineTask<T>) this.task).call(deadline)
+            : this.task.call();
+      } finally {
+        this.release();
+      }
+    }
+
+    /** Releases the permit, once, whether the task ran or was cancelled before it could. */
+    private void release() {
+      if (this.permits != null && this.held.compareAndSet(true, false)) {
+        this.permits.release();
+      }
+    }
+  }
+
+  /**
+   * The outcomes of tasks pulled lazily from a source, in the order the tasks complete. At most
+   * {@link Syndicate#limit(int)} tasks are submitted and not yet consumed at any time.
+   *
+   * @param <T> the type of the values from the tasks
+   */
+  private static final class Completions<T> implements Iterator<Try<T>> {
+
+    private final CompletionService<T> completionService;
+
+    private final Iterator<? extends Callable<T>> source;
+
+    /** The tasks submitted and not yet complete, by their future. */
+    private final Map<Future<T>, Permit<T>> running = new HashMap<>();
+
+    /** The tasks with an outcome, returned first. */
+    private final Queue<Permit<T>> ready = new ArrayDeque<>();
+
+    /**
+     * The started tasks in start order, which is the order their task timeouts expire in, {@code
+     * null} without a task timeout.
+     */
+    private final Queue<Permit<T>> starts;
+
+    /** The permits of the {@link Syndicate}, {@code null} without a limit. */
+    private final Semaphore permits;
+
+    private final int maxInFlight;
+
+    private final Deadline deadline;
+
+    private final long taskTimeoutNanos;
+
+    /** Whether the tasks left in the source when waiting stopped are reported as cancelled. */
+    private final boolean drains;
+
+    /** The number of tasks pulled from the source. */
+    private int pulled;
+
+    /** The position in the source of the task of the last outcome returned. */
+    private int index = -1;
+
+    /**
+     * Why waiting stopped, a {@link TimeoutException} or an {@link InterruptedException}, {@code
+     * null} while waiting for tasks to complete.
+     */
+    private Exception expired;
+
+    private Completions(
+        final @NotNull Syndicate<T> syndicate,
+        final Iterator<? extends Callable<T>> source,
+        final Deadline deadline,
+        final long taskTimeoutNanos,
+        final boolean drains) {
+      this.completionService = new ExecutorCompletionService<>(syndicate.es);
+      this.source = source;
+      this.permits = syndicate.permits;
+      this.maxInFlight = syndicate.maxInFlight;
+      this.deadline = deadline;
+      this.taskTimeoutNanos = taskTimeoutNanos;
+      this.starts = taskTimeoutNanos > 0L ? new ConcurrentLinkedQueue<>() : null;
+      this.drains = drains;
+      this.submitAvailable();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !this.ready.isEmpty()
+          || !this.running.isEmpty()
+          || (this.expired == null || this.drains) && this.source.hasNext();
+    }
+
+    @Override
+    public Try<T> next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (this.expired == null) {
+        this.submitAvailable();
+      }
+      while (this.ready.isEmpty()) {
+        if (this.running.isEmpty()) {
+          // Waiting stopped before the task could be submitted, so it holds no permit.
+          final Permit<T> unsubmitted = this.pull();
+          unsubmitted.outcome = this.cancelled();
+          this.ready.add(unsubmitted);
+        } else {
+          this.await();
+        }
+      }
+      final Permit<T> done = this.ready.poll();
+      this.index = done.index;
+      return done.outcome;
+    }
+
+    private @NotNull Permit<T> pull() {
+      return new Permit<>(
+          this.source.next(),
+          this.permits,
+          this.deadline,
+          this.taskTimeoutNanos,
+          this.starts,
+          this.pulled++);
+    }
+
+    /**
+     * Submits tasks from the source while below the limit and a permit is free, waiting for one
+     * only if no task of this source is in flight.
+     */
+    private void submitAvailable() {
+      while (this.source.hasNext() && this.running.size() < this.maxInFlight) {
+        if (this.permits != null && !this.permits.tryAcquire()) {
+          if (!this.running.isEmpty() || !this.acquire()) {
+            return;
+          }
+        }
+        final Permit<T> permit = this.pull();
+        try {
+          permit.future = this.completionService.submit(permit);
+          this.running.put(permit.future, permit);
+        } catch (final RejectedExecutionException e) {
+          permit.release();
+          permit.outcome = Try.failure(e);
+          this.ready.add(permit);
+          return;
+        }
+      }
+    }
+
+    /**
+     * Waits for a permit, or until the deadline or the current thread is interrupted.
+     *
+     * @return {@code true} if a permit was acquired.
+     */
+    private boolean acquire() {
+      try {
+        if (this.permits.tryAcquire(
+            this.deadline.remaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)) {
+          return true;
+        }
+        this.expired = new TimeoutException();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        this.expired = e;
+      }
+      return false;
+    }
+
+    /**
+     * Waits for a task to complete or for a task timeout to expire, making the outcome ready. Past
+     * the deadline or once the current thread is interrupted, cancels the tasks still running and
+     * makes the outcome of one of them ready.
+     */
+    private void await() {
+      if (this.expired == null) {
+        try {
+          final Future<T> future =
+              this.completionService.poll(this.waitNanos(), TimeUnit.NANOSECONDS);
+          if (future != null) {
+            this.complete(future);
+            return;
+          }
+          if (!this.deadline.isExpired()) {
+            this.timeOut();
+            return;
+          }
+          this.expired = new TimeoutException();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          this.expired = e;
+        }
+        this.cancel();
+      }
+      final Future<T> future = this.completionService.poll();
+      if (future != null) {
+        this.complete(future);
+        return;
+      }
+      // Report a cancelled task that has not completed yet.
+      final Iterator<Permit<T>> cancelled = this.running.values().iterator();
+      final Permit<T> permit = cancelled.next();
+      cancelled.remove();
+      permit.outcome = this.cancelled();
+      this.ready.add(permit);
+    }
+
+    /** How long to wait for, until the deadline or the earliest task timeout, in nanoseconds. */
+    private long waitNanos() {
+      final long remaining = this.deadline.remaining(TimeUnit.NANOSECONDS);
+      if (this.starts == null) {
+        return remaining;
+      }
+      Permit<T> first = this.starts.peek();
+      while (first != null && !this.running.containsKey(first.future)) {
+        this.starts.poll();
+        first = this.starts.peek();
+      }
+      // A task starting now times out after the task timeout.
+      final long next =
+          first == null
+              ? this.taskTimeoutNanos
+              : first.started + this.taskTimeoutNanos - System.nanoTime();
+      return Math.min(remaining, next);
+    }
+
+    /** Cancels the tasks past their task timeout, which then fail with a timeout. */
+    private void timeOut() {
+      if (this.starts == null) {
+        return;
+      }
+      final long now = System.nanoTime();
+      Permit<T> first = this.starts.peek();
+      while (first != null && first.started + this.taskTimeoutNanos - now <= 0L) {
+        this.starts.poll();
+        if (this.running.containsKey(first.future) && first.future.cancel(true)) {
+          this.running.remove(first.future);
+          first.release();
+          first.outcome = Try.failure(new TimeoutException("task timed out"));
+          this.ready.add(first);
+        }
+        first = this.starts.peek();
+      }
+    }
+
+    /** Makes the outcome of a completed task ready, unless it was reported already. */
+    private void complete(final @NotNull Future<T> future) {
+      final Permit<T> permit = this.running.remove(future);
+      if (permit != null) {
+        permit.outcome = Completions.outcome(future);
+        this.ready.add(permit);
+      }
+    }
+
+    /** Cancels the tasks still running, which then complete as cancelled. */
+    private void cancel() {
+      for (final Permit<T> permit : this.running.values()) {
+        permit.future.cancel(true);
+        permit.release();
+      }
+    }
+
+    private @NotNull Try<T> cancelled() {
+      final CancellationException cancelled = new CancellationException("waiting stopped");
+      cancelled.initCause(this.expired);
+      return Try.failure(cancelled);
+    }
+
+    private static <T> @NotNull Try<T> outcome(final @NotNull Future<T> future) {
+      try {
+        return Try.success(future.get());
+      } catch (final ExecutionException e) {
+        return Try.failure(e.getCause());
+      } catch (final CancellationException e) {
+        return Try.failure(e);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Try.failure(e);
+      }
+    }
+  }
+
+  /** Holds the pool the instances of {@link Syndicate#init()} borrow from, created on first use. */
+  private static final class SharedPool extends ThreadPoolExecutor {
+
+    /** The number of threads kept per processor at most, leaving room for blocking tasks. */
+    private static final int THREADS_PER_PROCESSOR = 64;
+
+    /** The number of tasks per processor waiting for a thread at most. */
+    private static final int QUEUED_PER_PROCESSOR = 16_384;
+
+    /**
+     * Keeps the processor count alive between bursts, and grows and shrinks above it up to {@link
+     * SharedPool#THREADS_PER_PROCESSOR} threads per processor, then queues up to {@link
+     * SharedPool#QUEUED_PER_PROCESSOR} tasks per processor. Past that, a task is rejected rather
+     * than run on the thread submitting it, which would block the callers expecting a future.
+     */
+    private static final Executor INSTANCE = SharedPool.create();
+
+    private SharedPool(final int processors, final Backlog backlog) {
+      super(
+          processors,
+          processors * THREADS_PER_PROCESSOR,
+          60L,
+          TimeUnit.SECONDS,
+          backlog,
+          new DaemonThreads());
+    }
+
+    private static @NotNull Executor create() {
+      final int processors = Runtime.getRuntime().availableProcessors();
+      final Backlog backlog = new Backlog(processors * QUEUED_PER_PROCESSOR);
+      backlog.pool = new SharedPool(processors, backlog);
+      return backlog.pool;
+    }
+  }
+
+  /**
+   * The queue of a {@link SharedPool}. A task goes straight to the thread that went idle last, as
+   * with a {@link SynchronousQueue}, so that the other threads can time out. Without an idle thread
+   * the task is refused while the pool can still grow, making the pool start a thread for it, and
+   * is otherwise queued.
+   */
+  private static final class Backlog extends LinkedBlockingQueue<Runnable> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Wakes up a thread about to wait for a task, to take a task it missed from the queue. */
+    private static final Runnable WAKE_UP = () -> {};
+
+    private final transient SynchronousQueue<Runnable> handoff = new SynchronousQueue<>();
+
+    /** The number of threads of the pool waiting for a task. */
+    private final AtomicInteger idle = new AtomicInteger();
+
+    private transient SharedPool pool;
+
+    private Backlog(final int capacity) {
+      super(capacity);
+    }
+
+    @Override
+    public boolean offer(final @NotNull Runnable runnable) {
+      if (this.handoff.offer(runnable)) {
+        return true;
+      }
+      if (this.pool.getPoolSize() < this.pool.getMaximumPoolSize() || !super.offer(runnable)) {
+        return false;
+      }
+      while (this.idle.get() > 0 && !this.isEmpty() && !this.handoff.offer(WAKE_UP)) {
+        Thread.yield();
+      }
+      return true;
+    }
+
+    @Override
+    public @NotNull Runnable take() throws InterruptedException {
+      final Runnable queued = this.poll();
+      if (queued != null) {
+        return queued;
+      }
+      this.idle.incrementAndGet();
+      try {
+        final Runnable missed = this.poll();
+        return missed != null ? missed : this.handoff.take();
+      } finally {
+        this.idle.decrementAndGet();
+      }
+    }
+
+    @Override
+    public Runnable poll(final long timeout, final @NotNull TimeUnit unit)
+        throws InterruptedException {
+      final Runnable queued = this.poll();
+      if (queued != null) {
+        return queued;
+      }
+      this.idle.incrementAndGet();
+      try {
+        final Runnable missed = this.poll();
+        return missed != null ? missed : this.handoff.poll(timeout, unit);
+      } finally {
+        this.idle.decrementAndGet();
+      }
+    }
+  }
+
+  /** Names the threads of a {@link SharedPool} and makes them daemons. */
+  private static final class DaemonThreads implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(final @NotNull Runnable runnable) {
+      final Thread thread =
+          new Thread(runnable, "cutils-syndicate-" + this.count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  /**
+   * The share of a {@link SharedPool} one {@link Syndicate} uses. Shutting it down rejects the new
+   * tasks of that instance and tracks the termination of its own tasks only, leaving the pool
+   * running for the other instances.
+   */
+  private static final class Borrowed extends AbstractExecutorService {
+
+    private final Executor pool;
+
+    /** The threads of the pool running a task of this instance. */
+    private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+
+    /** The number of tasks given and not yet complete. */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /** Released once shut down with no task left. */
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private volatile boolean shutdown;
+
+    @Contract(pure = true)
+    private Borrowed(final Executor pool) {
+      this.pool = pool;
+    }
+
+    @Override
+    public void execute(final @NotNull Runnable command) {
+      Objects.requireNonNull(command, "command cannot be null");
+      if (this.shutdown) {
+        throw new RejectedExecutionException("Syndicate closed");
+      }
+      this.active.incrementAndGet();
+      try {
+        this.pool.execute(() -> this.run(command));
+      } catch (final RejectedExecutionException e) {
+        this.done();
+        throw e;
+      }
+    }
+
+    private void run(final @NotNull Runnable command) {
+      final Thread worker = Thread.currentThread();
+      this.workers.add(worker);
+      try {
+        command.run();
+      } finally {
+        this.workers.remove(worker);
+        this.done();
+      }
+    }
+
+    private void done() {
+      if (this.active.decrementAndGet() == 0 && this.shutdown) {
+        this.terminated.countDown();
+      }
+    }
+
+    @Override
+    public void shutdown() {
+      this.shutdown = true;
+      if (this.active.get() == 0) {
+        this.terminated.countDown();
+      }
+    }
+
+    /** Tasks are handed straight to the threads of the pool, so none is ever waiting. */
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+      this.shutdown();
+      this.workers.forEach(Thread::interrupt);
+      return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return this.shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return this.terminated.getCount() == 0L;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final @NotNull TimeUnit unit)
+        throws InterruptedException {
+      return this.terminated.await(timeout, unit);
+    }
+  }
+
   /**
    * Represent the operation used to shutdown the current {@link ExecutorService} running the
    * Syndicate.
@@ -31,6 +31,7 @@ import java.io.Serializable;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.Contract;
@@ -107,12 +108,73 @@ public abstract class Try<T> implements Serializable {
     Objects.requireNonNull(operation, "operation cannot be null");
     try {
       operation.execute();
-      return new Success<>();
+      return Success.unit();
     } catch (final Exception e) {
       return new Failure<>(e);
     }
   }
 
+  /**
+   * Creates a successful {@link Try} with the given result, without running any operation. Use it
+   * to return a result from {@link Try#flatMap(ThrowingFunction)} or {@link
+   * Try#recoverWith(ThrowingFunction)}.
+   *
+   * @param result the result, may be {@code null}
+   * @param <T> variable type
+   * @return instance of {@link Try} in {@link Success} state with the result.
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull Try<T> success(final T result) {
+    return new Success<>(result);
+  }
+
+  /**
+   * The success whose result was filtered out, for the types of this package that convert to {@link
+   * Try}.
+   *
+   * @param <T> variable type
+   * @return the shared empty instance of {@link Try} in {@link Success} state.
+   */
+  @SuppressWarnings("unchecked")
+  @Contract(pure = true)
+  static <T> @NotNull Try<T> empty() {
+    return (Try<T>) Success.EMPTY;
+  }
+
+  /**
+   * Creates a failed {@link Try} with the given cause, without running any operation. Together with
+   * a shared {@link Fault}, this reports an expected failure without creating an exception.
+   *
+   * @param cause the cause of the failure
+   * @param <T> variable type
+   * @return instance of {@link Try} in {@link Failure} state with the cause.
+   * @throws NullPointerException if the cause is null
+   * @see Fault
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull Try<T> failure(final Throwable cause) {
+    Objects.requireNonNull(cause, "cause cannot be null");
+    return new Failure<>(cause);
+  }
+
+  /**
+   * Creates a failed {@link Try} whose cause is a stackless {@link Fault} with the given code. This
+   * costs about as much as a success, unlike throwing an exception that captures a stack trace.
+   *
+   * @param code the code identifying the failure
+   * @param <T> variable type
+   * @return instance of {@link Try} in {@link Failure} state with a {@link Fault} cause.
+   * @throws NullPointerException if the code is null
+   * @see Fault#of(String)
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull Try<T> fault(final String code) {
+    return new Failure<>(Fault.of(code));
+  }
+
   /**
    * If {@link Try#isSuccess()}, {@link Try#isResult()} and {@link Try#isNotEmpty()} ()} invoke the
    * specified consumer with the operation result, otherwise do nothing.
@@ -333,6 +395,60 @@ public abstract class Try<T> implements Serializable {
    */
   public abstract <M> Try<M> map(final ThrowingFunction<? super T, ? extends M> mapper);
 
+  /**
+   * If a try operation returns a result, apply the provided function to it and return the {@link
+   * Try} it returns, instead of nesting it like {@link Try#map(ThrowingFunction)} would.
+   *
+   * @param mapper a function returning a {@link Try} to apply to the result if available.
+   * @param <M> The type of the result of the returned {@link Try}
+   * @return the {@link Try} returned by {@code mapper}, a {@link Failure} if it threw or returned
+   *     {@code null}, an empty {@link Success} if there is no result, or this {@link Failure}.
+   * @throws NullPointerException if the function is null
+   * @since v2.8
+   */
+  public abstract <M> Try<M> flatMap(
+      final ThrowingFunction<? super T, ? extends Try<? extends M>> mapper);
+
+  /**
+   * If the try operation failed, apply the provided function to the cause and return a {@link Try}
+   * with its result; a successful {@link Try} is returned as is.
+   *
+   * @param recovery a function computing a result from the cause of the failure.
+   * @return this {@link Success}, or a {@link Try} with the result of {@code recovery}, or a {@link
+   *     Failure} if it threw.
+   * @throws NullPointerException if the function is null
+   * @since v2.8
+   */
+  public abstract Try<T> recover(final ThrowingFunction<? super Throwable, ? extends T> recovery);
+
+  /**
+   * If the try operation failed, apply the provided function to the cause and return the {@link
+   * Try} it returns; a successful {@link Try} is returned as is.
+   *
+   * @param recovery a function returning a {@link Try} from the cause of the failure.
+   * @return this {@link Success}, or the {@link Try} returned by {@code recovery}, or a {@link
+   *     Failure} if it threw or returned {@code null}.
+   * @throws NullPointerException if the function is null
+   * @since v2.8
+   */
+  public abstract Try<T> recoverWith(
+      final ThrowingFunction<? super Throwable, ? extends Try<? extends T>> recovery);
+
+  /**
+   * Reduce the try operation to a single value: the result of {@code onSuccess} applied to the
+   * result, {@code null} when there is none, or of {@code onFailure} applied to the cause.
+   *
+   * @param onSuccess the function to apply if the try operation was successful
+   * @param onFailure the function to apply if the try operation failed
+   * @param <R> The type of the value
+   * @return the value returned by the applied function
+   * @throws NullPointerException if either function is null
+   * @since v2.8
+   */
+  public abstract <R> R fold(
+      final Function<? super T, ? extends R> onSuccess,
+      final Function<? super Throwable, ? extends R> onFailure);
+
   /**
    * If the try operation does not return a result after a {@link Try#filter(Predicate)}, apply the
    * provided dealer function to provide a default value, and return an instance of {@link Try} with
@@ -398,27 +514,31 @@ public abstract class Try<T> implements Serializable {
    */
   private static class Success<S> extends Try<S> implements Serializable {
     private static final long serialVersionUID = 4332649928027329163L;
-    private boolean isResult;
 
-    private S result;
+    /** The success of an operation without result, shared as it holds no state of its own. */
+    private static final Success<?> UNIT = new Success<>(false);
+
+    /** The success whose result was filtered out, shared as it holds no state of its own. */
+    private static final Success<?> EMPTY = new Success<>(true);
+
+    private final boolean isResult;
+
+    private final S result;
 
     /** Indicates whether the variable is empty or not. */
-    private boolean empty;
+    private final boolean empty;
 
     /**
-     * Initializes a new Success instance with the given empty flag.
+     * Initializes a new Success instance without result, use {@link Success#unit()} or {@link
+     * Try#empty()} instead.
      *
      * @param empty The flag indicating if the Success instance is empty.
      */
     private Success(final boolean empty) {
-      this();
-      this.empty = empty;
-    }
-
-    /** Represents a success state of a Try operation. */
-    private Success() {
       super();
       this.isResult = false;
+      this.result = null;
+      this.empty = empty;
     }
 
     /**
@@ -429,6 +549,31 @@ public abstract class Try<T> implements Serializable {
     private Success(final S result) {
       this.isResult = true;
       this.result = result;
+      this.empty = false;
+    }
+
+    /**
+     * The success of an operation without result.
+     *
+     * @param <S> the type of the result value
+     * @return the shared instance
+     */
+    @SuppressWarnings("unchecked")
+    @Contract(pure = true)
+    private static <S> Success<S> unit() {
+      return (Success<S>) UNIT;
+    }
+
+    /**
+     * Keeps the shared instances shared across serialization.
+     *
+     * @return the shared instance matching the deserialized state, or this if it has a result
+     */
+    private Object readResolve() {
+      if (this.isResult) {
+        return this;
+      }
+      return this.empty ? EMPTY : UNIT;
     }
 
     /** {@inheritDoc} */
@@ -501,30 +646,15 @@ public abstract class Try<T> implements Serializable {
 
     /** {@inheritDoc} */
     @Override
-    @Contract("_ -> this")
+    @Contract(pure = true)
     public Try<S> filter(final Predicate<? super S> predicate) {
       Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
-      if (this.isResult && this.isNotEmpty()) {
-        if (predicate.test(this.result)) {
-          return this;
-        }
-        this.clean();
+      if (this.isResult && this.isNotEmpty() && !predicate.test(this.result)) {
+        return Try.empty();
       }
       return this;
     }
 
-    /**
-     * Clean the try operation state.
-     *
-     * @implNote This method is used to clean the try operation state when a condition is not met.
-     */
-    @Contract(mutates = "this")
-    private void clean() {
-      this.empty = true; // empty, condition is not met
-      this.isResult = false; // no result
-      this.result = null; // clear result
-    }
-
     /** {@inheritDoc} */
     @Override
     @Contract(pure = true)
@@ -565,9 +695,57 @@ public abstract class Try<T> implements Serializable {
     @Override
     public <M> @NotNull Try<M> map(final ThrowingFunction<? super S, ? extends M> mapper) {
       Objects.requireNonNull(mapper, "Mapper cannot be null.");
-      return this.isResult && this.isNotEmpty()
-          ? Try.of(() -> mapper.apply(this.result))
-          : new Success<>(true);
+      if (!this.isResult || this.empty) {
+        return Try.empty();
+      }
+      try {
+        return new Success<>(mapper.apply(this.result));
+      } catch (final Exception e) {
+        return new Failure<>(e);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <M> Try<M> flatMap(
+        final ThrowingFunction<? super S, ? extends Try<? extends M>> mapper) {
+      Objects.requireNonNull(mapper, "Mapper cannot be null.");
+      if (!this.isResult || this.empty) {
+        return Try.empty();
+      }
+      try {
+        return Objects.requireNonNull((Try<M>) mapper.apply(this.result), "Mapper returned null.");
+      } catch (final Exception e) {
+        return new Failure<>(e);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract(value = "_ -> this", pure = true)
+    public Try<S> recover(final ThrowingFunction<? super Throwable, ? extends S> recovery) {
+      Objects.requireNonNull(recovery, "Recovery function cannot be null.");
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract(value = "_ -> this", pure = true)
+    public Try<S> recoverWith(
+        final ThrowingFunction<? super Throwable, ? extends Try<? extends S>> recovery) {
+      Objects.requireNonNull(recovery, "Recovery function cannot be null.");
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> R fold(
+        final Function<? super S, ? extends R> onSuccess,
+        final Function<? super Throwable, ? extends R> onFailure) {
+      Objects.requireNonNull(onSuccess, "Success function cannot be null.");
+      Objects.requireNonNull(onFailure, "Failure function cannot be null.");
+      return onSuccess.apply(this.result);
     }
 
     /** {@inheritDoc} */
@@ -700,14 +878,71 @@ public abstract class Try<T> implements Serializable {
     @Override
     @Contract(value = "_ -> fail", pure = true)
     public <M> @NotNull Try<M> map(final ThrowingFunction<? super F, ? extends M> mapper) {
-      return new Failure<>(this.exception);
+      Objects.requireNonNull(mapper, "Mapper cannot be null.");
+      return this.retype();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract(value = "_ -> this", pure = true)
+    public <M> Try<M> flatMap(
+        final ThrowingFunction<? super F, ? extends Try<? extends M>> mapper) {
+      Objects.requireNonNull(mapper, "Mapper cannot be null.");
+      return this.retype();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<F> recover(final ThrowingFunction<? super Throwable, ? extends F> recovery) {
+      Objects.requireNonNull(recovery, "Recovery function cannot be null.");
+      try {
+        return new Success<>(recovery.apply(this.exception));
+      } catch (final Exception e) {
+        return new Failure<>(e);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Try<F> recoverWith(
+        final ThrowingFunction<? super Throwable, ? extends Try<? extends F>> recovery) {
+      Objects.requireNonNull(recovery, "Recovery function cannot be null.");
+      try {
+        return Objects.requireNonNull(
+            (Try<F>) recovery.apply(this.exception), "Recovery function returned null.");
+      } catch (final Exception e) {
+        return new Failure<>(e);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> R fold(
+        final Function<? super F, ? extends R> onSuccess,
+        final Function<? super Throwable, ? extends R> onFailure) {
+      Objects.requireNonNull(onSuccess, "Success function cannot be null.");
+      Objects.requireNonNull(onFailure, "Failure function cannot be null.");
+      return onFailure.apply(this.exception);
     }
 
     /** {@inheritDoc} */
     @Override
     @Contract(pure = true)
     public <D> @NotNull Try<D> onEmpty(final Dealer<? extends D> dealer) {
-      return new Failure<>(this.exception);
+      return this.retype();
+    }
+
+    /**
+     * A failure holds no result, so the same instance serves as a failure of any result type.
+     *
+     * @param <M> the result type to view this failure as
+     * @return this instance
+     */
+    @SuppressWarnings("unchecked")
+    @Contract(value = " -> this", pure = true)
+    private <M> @NotNull Try<M> retype() {
+      return (Try<M>) this;
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,356 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.value;
+
+import art.cutils.function.Dealer;
+import art.cutils.function.ThrowingFunction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link TryBatch} class tries a batch of operations, or one operation over a batch of inputs,
+ * and keeps the outcome split: the results of the successful ones in input order, and the causes of
+ * the failed ones with their index in the input.
+ *
+ * <p>The outcome is gathered while the batch runs, without a {@link Try} per operation. Like {@link
+ * Try#of(Dealer)}, every {@link Exception} is caught and fatal errors are not.
+ *
+ * <pre>{@code
+ * final TryBatch<Integer> parsed = TryBatch.of(lines, Integer::parseInt);
+ * parsed.getFailures().forEach(failure -> log(failure.getFirst(), failure.getSecond()));
+ * }</pre>
+ *
+ * @param <T> type of the results
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Try
+ * @since v2.8
+ */
+public final class TryBatch<T> {
+
+  private final List<T> successes;
+
+  /** Input index of each failure, in ascending order. */
+  private final int[] failedIndexes;
+
+  /** Cause of each failure, matching {@link TryBatch#failedIndexes}. */
+  private final Throwable[] causes;
+
+  @Contract(pure = true)
+  private TryBatch(final List<T> successes, final int[] failedIndexes, final Throwable[] causes) {
+    this.successes = Collections.unmodifiableList(successes);
+    this.failedIndexes = failedIndexes;
+    this.causes = causes;
+  }
+
+  /**
+   * Tries every operation, in iteration order, on the calling thread.
+   *
+   * @param operations the operations that will be tried
+   * @param <T> type of the results
+   * @return the {@link TryBatch} of the operations.
+   * @throws NullPointerException if operations or one of them is null
+   */
+  public static <T> @NotNull TryBatch<T> of(
+      final Collection<? extends Dealer<? extends T>> operations) {
+    return TryBatch.of(TryBatch.requireNoNull(operations), Dealer::deal);
+  }
+
+  /**
+   * Tries every operation, in encounter order, on the calling thread.
+   *
+   * @param operations the operations that will be tried
+   * @param <T> type of the results
+   * @return the {@link TryBatch} of the operations.
+   * @throws NullPointerException if operations or one of them is null, once the null one is reached
+   */
+  public static <T> @NotNull TryBatch<T> of(
+      final Stream<? extends Dealer<? extends T>> operations) {
+    Objects.requireNonNull(operations, "operations cannot be null");
+    return TryBatch.of(
+        operations.map(operation -> Objects.requireNonNull(operation, "operation cannot be null")),
+        Dealer::deal);
+  }
+
+  /** Checks the operations up front, so that none is tried if one of them is null. */
+  private static <C extends Collection<?>> @NotNull C requireNoNull(final C operations) {
+    Objects.requireNonNull(operations, "operations cannot be null");
+    for (final Object operation : operations) {
+      Objects.requireNonNull(operation, "operation cannot be null");
+    }
+    return operations;
+  }
+
+  /**
+   * Tries the function on every input, in iteration order, on the calling thread.
+   *
+   * @param inputs the inputs to apply the function to
+   * @param function the function that will be tried
+   * @param <I> type of the inputs
+   * @param <T> type of the results
+   * @return the {@link TryBatch} of the function over the inputs.
+   * @throws NullPointerException if inputs or function is null
+   */
+  public static <I, T> @NotNull TryBatch<T> of(
+      final Collection<? extends I> inputs,
+      final ThrowingFunction<? super I, ? extends T> function) {
+    Objects.requireNonNull(inputs, "inputs cannot be null");
+    Objects.requireNonNull(function, "function cannot be null");
+    final Gatherer<T> gatherer = new Gatherer<>(inputs.size());
+    int index = 0;
+    for (final I input : inputs) {
+      gatherer.apply(index++, function, input);
+    }
+    return gatherer.toBatch();
+  }
+
+  /**
+   * Tries the function on every input, in encounter order, on the calling thread. A parallel stream
+   * is consumed sequentially, as the index of an input is its position in the stream.
+   *
+   * @param inputs the inputs to apply the function to
+   * @param function the function that will be tried
+   * @param <I> type of the inputs
+   * @param <T> type of the results
+   * @return the {@link TryBatch} of the function over the inputs.
+   * @throws NullPointerException if inputs or function is null
+   */
+  public static <I, T> @NotNull TryBatch<T> of(
+      final Stream<? extends I> inputs, final ThrowingFunction<? super I, ? extends T> function) {
+    Objects.requireNonNull(inputs, "inputs cannot be null");
+    Objects.requireNonNull(function, "function cannot be null");
+    final Gatherer<T> gatherer = new Gatherer<>(16);
+    inputs.sequential().forEachOrdered(input -> gatherer.apply(gatherer.size(), function, input));
+    return gatherer.toBatch();
+  }
+
+  /**
+   * Tries every operation on the pool, splitting the batch into as many slices as its parallelism
+   * can use. The outcome is the same as {@link TryBatch#of(Collection)}'s, in input order.
+   *
+   * @param operations the operations that will be tried
+   * @param pool the pool to run the operations on
+   * @param <T> type of the results
+   * @return the {@link TryBatch} of the operations.
+   * @throws NullPointerException if operations, one of them or pool is null
+   */
+  public static <T> @NotNull TryBatch<T> parallel(
+      final Collection<? extends Dealer<? extends T>> operations, final ForkJoinPool pool) {
+    return TryBatch.parallel(TryBatch.requireNoNull(operations), Dealer::deal, pool);
+  }
+
+  /**
+   * Tries the function on every input on the pool, splitting the batch into as many slices as its
+   * parallelism can use. The outcome is the same as {@link TryBatch#of(Collection,
+   * ThrowingFunction)}'s, in input order.
+   *
+   * @param inputs the inputs to apply the function to
+   * @param function the function that will be tried
+   * @param pool the pool to run the function on
+   * @param <I> type of the inputs
+   * @param <T> type of the results
+   * @return the {@link TryBatch} of the function over the inputs.
+   * @throws NullPointerException if inputs, function or pool is null
+   */
+  public static <I, T> @NotNull TryBatch<T> parallel(
+      final Collection<? extends I> inputs,
+      final ThrowingFunction<? super I, ? extends T> function,
+      final ForkJoinPool pool) {
+    Objects.requireNonNull(inputs, "inputs cannot be null");
+    Objects.requireNonNull(function, "function cannot be null");
+    Objects.requireNonNull(pool, "pool cannot be null");
+    final Object[] items = inputs.toArray();
+    final int slice = Math.max(1, items.length / (pool.getParallelism() << 2));
+    return pool.invoke(new Slice<I, T>(items, 0, items.length, slice, function)).toBatch();
+  }
+
+  /**
+   * Use this method to retrieve the results of the successful operations.
+   *
+   * @return an unmodifiable list of the results, in input order.
+   */
+  @Contract(pure = true)
+  public @NotNull List<T> getSuccesses() {
+    return this.successes;
+  }
+
+  /**
+   * Use this method to retrieve the failed operations.
+   *
+   * @return a new list pairing the index of each failed operation in the input with its cause, in
+   *     input order.
+   */
+  @Contract(" -> new")
+  public @NotNull List<Pair<Integer, Throwable>> getFailures() {
+    final List<Pair<Integer, Throwable>> failures = new ArrayList<>(this.causes.length);
+    for (int i = 0; i < this.causes.length; i++) {
+      failures.add(Pair.of(this.failedIndexes[i], this.causes[i]));
+    }
+    return failures;
+  }
+
+  /**
+   * Use to check whether any operation failed.
+   *
+   * @return {@code true} if at least one operation failed.
+   */
+  @Contract(pure = true)
+  public boolean hasFailures() {
+    return this.causes.length > 0;
+  }
+
+  /**
+   * Use to retrieve the number of operations tried.
+   *
+   * @return the number of successes and failures.
+   */
+  @Contract(pure = true)
+  public int size() {
+    return this.successes.size() + this.causes.length;
+  }
+
+  /**
+   * Gathers the outcome of a batch, or of a slice of it.
+   *
+   * @param <T> type of the results
+   */
+  private static final class Gatherer<T> {
+
+    private final ArrayList<T> successes;
+
+    private int[] failedIndexes = new int[0];
+
+    private Throwable[] causes = new Throwable[0];
+
+    private int failures;
+
+    private Gatherer(final int capacity) {
+      this.successes = new ArrayList<>(capacity);
+    }
+
+    private <I> void apply(
+        final int index, final ThrowingFunction<? super I, ? extends T> function, final I input) {
+      try {
+        this.successes.add(function.apply(input));
+      } catch (final Exception e) {
+        this.fail(index, e);
+      }
+    }
+
+    private void fail(final int index, final Throwable cause) {
+      if (this.failures == this.causes.length) {
+        final int capacity = Math.max(4, this.failures << 1);
+        this.failedIndexes = Arrays.copyOf(this.failedIndexes, capacity);
+        this.causes = Arrays.copyOf(this.causes, capacity);
+      }
+      this.failedIndexes[this.failures] = index;
+      this.causes[this.failures++] = cause;
+    }
+
+    private int size() {
+      return this.successes.size() + this.failures;
+    }
+
+    /**
+     * Appends the outcome of the slice that follows this one.
+     *
+     * @param next the gatherer of the next slice
+     * @return this gatherer
+     */
+    private Gatherer<T> append(final Gatherer<T> next) {
+      this.successes.addAll(next.successes);
+      for (int i = 0; i < next.failures; i++) {
+        this.fail(next.failedIndexes[i], next.causes[i]);
+      }
+      return this;
+    }
+
+    private TryBatch<T> toBatch() {
+      return new TryBatch<>(
+          this.successes,
+          Arrays.copyOf(this.failedIndexes, this.failures),
+          Arrays.copyOf(this.causes, this.failures));
+    }
+  }
+
+  /**
+   * Tries the function on a range of the inputs, forking halves until they are small enough.
+   *
+   * @param <I> type of the inputs
+   * @param <T> type of the results
+   */
+  private static final class Slice<I, T> extends RecursiveTask<Gatherer<T>> {
+    private static final long serialVersionUID = -6245786233907531541L;
+
+    private final transient Object[] items;
+
+    private final int from;
+
+    private final int to;
+
+    private final int threshold;
+
+    private final transient ThrowingFunction<? super I, ? extends T> function;
+
+    private Slice(
+        final Object[] items,
+        final int from,
+        final int to,
+        final int threshold,
+        final ThrowingFunction<? super I, ? extends T> function) {
+      this.items = items;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+      this.function = function;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Gatherer<T> compute() {
+      if (this.to - this.from <= this.threshold) {
+        final Gatherer<T> gatherer = new Gatherer<>(this.to - this.from);
+        for (int index = this.from; index < this.to; index++) {
+          gatherer.apply(index, this.function, (I) this.items[index]);
+        }
+        return gatherer;
+      }
+      final int middle = (this.from + this.to) >>> 1;
+      final Slice<I, T> head =
+          new Slice<>(this.items, this.from, middle, this.threshold, this.function);
+      final Slice<I, T> tail =
+          new Slice<>(this.items, middle, this.to, this.threshold, this.function);
+      head.fork();
+      final Gatherer<T> rest = tail.compute();
+      return head.join().append(rest);
+    }
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.value;
+
+import art.cutils.function.LongDealer;
+import art.cutils.function.ThrowingLongUnaryOperation;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link TryLong} class is the {@code long} specialization of {@link Try}. It holds its result
+ * unboxed and has a single implementation, so a chain such as {@code TryLong.of(() ->
+ * Long.parseLong(text)).map(value -> value * 2).orElseGet(0L)} can be compiled without any
+ * allocation.
+ *
+ * <p>It has the same 3 states as {@link Try}: success with a result, success without a result once
+ * a {@link TryLong#filter(LongPredicate)} condition is not met, and failure. Use {@link
+ * TryLong#toTry()} to continue with the full {@link Try} API.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Try
+ * @since v2.8
+ */
+public final class TryLong {
+
+  private final long result;
+
+  /** The cause of the failure, {@code null} on success. */
+  private final Throwable cause;
+
+  /** Indicates whether the try has no result. */
+  private final boolean empty;
+
+  @Contract(pure = true)
+  private TryLong(final long result, final Throwable cause, final boolean empty) {
+    this.result = result;
+    this.cause = cause;
+    this.empty = empty;
+  }
+
+  /**
+   * Accepts a {@link LongDealer} type function which is expected to return a result if operation
+   * was successful.
+   *
+   * @param operation the operation that will be tried, a variable of {@link LongDealer} type.
+   * @return instance of {@link TryLong} either with a success or failure state.
+   * @throws NullPointerException if the operation is null
+   */
+  @Contract("_ -> new")
+  public static @NotNull TryLong of(final LongDealer operation) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    long result = 0L;
+    Throwable cause = null;
+    try {
+      result = operation.dealAsLong();
+    } catch (final Exception e) {
+      cause = e;
+    }
+    // a single allocation site lets the JIT keep a short lived chain in registers
+    return new TryLong(result, cause, cause != null);
+  }
+
+  /**
+   * Creates a successful {@link TryLong} with the given result.
+   *
+   * @param result the result
+   * @return instance of {@link TryLong} in success state with the result.
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static @NotNull TryLong success(final long result) {
+    return new TryLong(result, null, false);
+  }
+
+  /**
+   * Creates a failed {@link TryLong} with the given cause.
+   *
+   * @param cause the cause of the failure
+   * @return instance of {@link TryLong} in failure state with the cause.
+   * @throws NullPointerException if the cause is null
+   * @see Fault
+   */
+  @Contract("_ -> new")
+  public static @NotNull TryLong failure(final Throwable cause) {
+    Objects.requireNonNull(cause, "cause cannot be null");
+    return new TryLong(0L, cause, true);
+  }
+
+  /**
+   * Use to check the state of the try operation.
+   *
+   * @return {@code true} if try operation was successful, even without result.
+   */
+  @Contract(pure = true)
+  public boolean isSuccess() {
+    return this.cause == null;
+  }
+
+  /**
+   * Use to check the state of the try operation.
+   *
+   * @return {@code true} if try operation failed.
+   */
+  @Contract(pure = true)
+  public boolean isFailure() {
+    return this.cause != null;
+  }
+
+  /**
+   * Try is Empty if operation failed or a filter condition is not met.
+   *
+   * @return {@code true} if there is no result.
+   */
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return this.empty;
+  }
+
+  /**
+   * Use this method to retrieve the try operation result.
+   *
+   * @return the try operation result
+   * @throws IllegalStateException if there is no result, see {@link TryLong#isEmpty()}
+   */
+  public long getAsLong() {
+    if (this.empty) {
+      throw new IllegalStateException("No result present.", this.cause);
+    }
+    return this.result;
+  }
+
+  /**
+   * Retrieve the cause of try operation failure.
+   *
+   * @return exception thrown during try operation, {@code null} if it was successful.
+   */
+  @Contract(pure = true)
+  public Throwable getCause() {
+    return this.cause;
+  }
+
+  /**
+   * If a result is present, apply the provided mapping operation to it.
+   *
+   * @param mapper a mapping operation to apply to the result if present.
+   * @return a {@link TryLong} with the mapped result, or a failure if the mapper threw.
+   * @throws NullPointerException if the mapping operation is null
+   */
+  public @NotNull TryLong map(final ThrowingLongUnaryOperation mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    long result = this.result;
+    Throwable cause = this.cause;
+    if (!this.empty) {
+      try {
+        result = mapper.applyAsLong(result);
+      } catch (final Exception e) {
+        result = 0L;
+        cause = e;
+      }
+    }
+    return new TryLong(result, cause, this.empty || cause != null);
+  }
+
+  /**
+   * If a result is present and does not match the given predicate, return an empty {@link TryLong},
+   * otherwise one with the same state.
+   *
+   * @param predicate the predicate to apply to a result, if present
+   * @return a {@link TryLong} with the same state, empty if the result does not match
+   * @throws NullPointerException if the predicate is null
+   */
+  public @NotNull TryLong filter(final LongPredicate predicate) {
+    Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
+    final boolean empty = this.empty || !predicate.test(this.result);
+    return new TryLong(empty ? 0L : this.result, this.cause, empty);
+  }
+
+  /**
+   * If a result is present, invoke the specified consumer with it, otherwise do nothing.
+   *
+   * @param result block of operation to be executed.
+   * @return existing instance of {@link TryLong}
+   * @throws NullPointerException if the consumer is null
+   */
+  public @NotNull TryLong onSuccess(final LongConsumer result) {
+    Objects.requireNonNull(result, "Success result Consumer cannot be null.");
+    if (!this.empty) {
+      result.accept(this.result);
+    }
+    return this;
+  }
+
+  /**
+   * If try operations fails, invoke the specified consumer with the cause, otherwise do nothing.
+   *
+   * @param cause the consumer to accept the cause.
+   * @return existing instance of {@link TryLong}
+   * @throws NullPointerException if the consumer is null
+   */
+  public @NotNull TryLong onFailure(final Consumer<? super Throwable> cause) {
+    Objects.requireNonNull(cause, "Failure cause Consumer cannot be null.");
+    if (this.cause != null) {
+      cause.accept(this.cause);
+    }
+    return this;
+  }
+
+  /**
+   * Return the result if present, otherwise {@code other}.
+   *
+   * @param other the value to be returned if there is no result.
+   * @return the result, if present, otherwise {@code other}
+   */
+  @Contract(pure = true)
+  public long orElseGet(final long other) {
+    return this.empty ? other : this.result;
+  }
+
+  /**
+   * Return the result if present, otherwise the result of {@code other}.
+   *
+   * @param other a {@link LongSupplier} whose result is returned if there is no result.
+   * @return the result, if present, otherwise {@code other.getAsLong()}
+   * @throws NullPointerException if {@code other} is null
+   */
+  public long orElseGet(final LongSupplier other) {
+    Objects.requireNonNull(other, "Supplier cannot be null.");
+    return this.empty ? other.getAsLong() : this.result;
+  }
+
+  /**
+   * Converts to a {@link Try} in the same state, boxing the result.
+   *
+   * @return a {@link Try} with the boxed result, the shared empty success, or a failure with the
+   *     same cause.
+   */
+  public @NotNull Try<Long> toTry() {
+    if (this.cause != null) {
+      return Try.failure(this.cause);
+    }
+    return this.empty ? Try.empty() : Try.success(this.result);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(Long.hashCode(this.result), this.cause, this.empty);
+  }
+
+  @Override
+  @Contract(value = "null -> false", pure = true)
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof TryLong) {
+      final TryLong that = (TryLong) o;
+      return this.result == that.result
+          && this.empty == that.empty
+          && Objects.equals(this.cause, that.cause);
+    }
+    return false;
+  }
+}
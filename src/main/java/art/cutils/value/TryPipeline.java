@@ -0,0 +1,190 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.value;
+
+import art.cutils.function.Accepter;
+import art.cutils.function.ThrowingFunction;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link TryPipeline} class records a chain of {@link Try} stages once and then runs it on any
+ * number of inputs.
+ *
+ * <p>Where {@code Try.of(..).map(a).filter(p).map(b)} creates a {@link Try} and a try-catch block
+ * per stage for every input, a pipeline runs all of its stages in a single try-catch block and
+ * creates one {@link Try}, for the outcome. The outcome is the same as the equivalent chain's,
+ * except that a {@link Predicate} throwing an exception fails the outcome instead of propagating.
+ *
+ * <pre>{@code
+ * final TryPipeline<String, Integer> parse =
+ *     TryPipeline.<String>start().map(String::trim).map(Integer::parseInt).filter(n -> n > 0);
+ *
+ * final Try<Integer> quantity = parse.apply(line);
+ * }</pre>
+ *
+ * <p>A pipeline is immutable, so every stage method returns a new one and a pipeline can be shared
+ * between threads as long as its stages can.
+ *
+ * @param <I> type of the input
+ * @param <O> type of the outcome
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Try
+ * @since v2.8
+ */
+public final class TryPipeline<I, O> {
+
+  /** The pipeline without stages, shared as it holds no state of its own. */
+  private static final TryPipeline<?, ?> START = new TryPipeline<>(new Object[0], new byte[0]);
+
+  private static final byte MAP = 0;
+
+  private static final byte FILTER = 1;
+
+  private static final byte PEEK = 2;
+
+  /** The function of each stage, called directly so that running a stage is a single call. */
+  private final Object[] stages;
+
+  /** The kind of each stage, telling how to call its function. */
+  private final byte[] kinds;
+
+  @Contract(pure = true)
+  private TryPipeline(final Object[] stages, final byte[] kinds) {
+    this.stages = stages;
+    this.kinds = kinds;
+  }
+
+  /**
+   * Starts a pipeline whose outcome, until stages are added, is a successful {@link Try} with the
+   * input as result.
+   *
+   * @param <I> type of the input
+   * @return the pipeline without stages.
+   */
+  @SuppressWarnings("unchecked")
+  @Contract(pure = true)
+  public static <I> @NotNull TryPipeline<I, I> start() {
+    return (TryPipeline<I, I>) START;
+  }
+
+  /**
+   * Adds a stage applying the mapping function to the result, like {@link
+   * Try#map(ThrowingFunction)}.
+   *
+   * @param mapper a mapping function to apply to the result.
+   * @param <M> The type of the result of the mapping function
+   * @return a new pipeline ending with the stage.
+   * @throws NullPointerException if the mapping function is null
+   */
+  @Contract("_ -> new")
+  public <M> @NotNull TryPipeline<I, M> map(final ThrowingFunction<? super O, ? extends M> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    return this.then(MAP, mapper);
+  }
+
+  /**
+   * Adds a stage emptying the outcome unless the result matches the predicate, like {@link
+   * Try#filter(Predicate)}. The stages after it are skipped for an unmatched result.
+   *
+   * @param predicate the predicate to apply to the result.
+   * @return a new pipeline ending with the stage.
+   * @throws NullPointerException if the predicate is null
+   */
+  @Contract("_ -> new")
+  public @NotNull TryPipeline<I, O> filter(final Predicate<? super O> predicate) {
+    Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
+    return this.then(FILTER, predicate);
+  }
+
+  /**
+   * Adds a stage performing an action on the result, like {@link Try#peek(Accepter)}.
+   *
+   * @param acceptor the action to be performed on the result.
+   * @return a new pipeline ending with the stage.
+   * @throws NullPointerException if the acceptor is null
+   */
+  @Contract("_ -> new")
+  public @NotNull TryPipeline<I, O> peek(final Accepter<? super O> acceptor) {
+    Objects.requireNonNull(acceptor, "Accepter cannot be null.");
+    return this.then(PEEK, acceptor);
+  }
+
+  private <M> @NotNull TryPipeline<I, M> then(final byte kind, final Object stage) {
+    final int size = this.stages.length;
+    final Object[] stages = Arrays.copyOf(this.stages, size + 1);
+    final byte[] kinds = Arrays.copyOf(this.kinds, size + 1);
+    stages[size] = stage;
+    kinds[size] = kind;
+    return new TryPipeline<>(stages, kinds);
+  }
+
+  /**
+   * Runs the stages on the input.
+   *
+   * @param input the input to the first stage
+   * @return a {@link Try} with the result of the last stage, an empty {@link Try} if a filter
+   *     condition was not met, or a failed {@link Try} with the exception thrown by a stage.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull Try<O> apply(final I input) {
+    final Object[] stages = this.stages;
+    final byte[] kinds = this.kinds;
+    Object value = input;
+    try {
+      for (int i = 0; i < stages.length; i++) {
+        final byte kind = kinds[i];
+        if (kind == MAP) {
+          value = ((ThrowingFunction<Object, Object>) stages[i]).apply(value);
+        } else if (kind == FILTER) {
+          if (!((Predicate<Object>) stages[i]).test(value)) {
+            return Try.empty();
+          }
+        } else {
+          try {
+            ((Accepter<Object>) stages[i]).accept(value);
+          } catch (final Throwable cause) {
+            // Like Try#peek, which also turns an Error into a failure.
+            return Try.failure(cause);
+          }
+        }
+      }
+    } catch (final Exception e) {
+      return Try.failure(e);
+    }
+    return Try.success((O) value);
+  }
+
+  /**
+   * Use to retrieve the number of stages.
+   *
+   * @return the number of stages added since {@link TryPipeline#start()}.
+   */
+  @Contract(pure = true)
+  public int size() {
+    return this.stages.length;
+  }
+}
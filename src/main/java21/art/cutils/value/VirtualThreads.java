@@ -0,0 +1,62 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package art.cutils.value;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Creates executors that run each task on a virtual thread. This is the Java 21 version of the
+ * class, packaged under {@code META-INF/versions/21} of the multi-release JAR.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+final class VirtualThreads {
+
+  // Sealed constructor
+  private VirtualThreads() {}
+
+  /**
+   * Use to check whether the executors of {@link VirtualThreads#newPerTaskExecutor()} run tasks on
+   * virtual threads.
+   *
+   * @return {@code true} from Java 21.
+   */
+  @Contract(pure = true)
+  static boolean isSupported() {
+    return true;
+  }
+
+  /**
+   * Creates an executor starting a virtual thread per task.
+   *
+   * @return a new {@link Executors#newVirtualThreadPerTaskExecutor()}.
+   */
+  @Contract(" -> new")
+  static @NotNull ExecutorService newPerTaskExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+}
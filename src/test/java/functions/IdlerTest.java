@@ -24,12 +24,28 @@
 package functions;
 
 import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.of;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import art.cutils.function.Dealer;
@@ -197,4 +213,208 @@ final class IdlerTest {
 
     assertNotEquals(supplier.hashCode(), dealer.hashCode());
   }
-}
\ No newline at end of file
+
+  @Test
+  void concurrentSupplyRunsSupplierOnceForConcurrentCallers() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    final Supplier<Integer> supplier =
+        Idler.concurrentSupply(
+            () -> {
+              calls.incrementAndGet();
+              Try.of(() -> MILLISECONDS.sleep(50));
+              return 42;
+            });
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return supplier.get();
+                }));
+      }
+      start.countDown();
+      for (final Future<Integer> result : results) {
+        assertEquals(42, result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void concurrentDealRetriesAfterFailure() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final Dealer<String> dealer =
+        Idler.concurrentDeal(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                throw new IOException("unavailable");
+              }
+              return "available";
+            });
+
+    assertThrows(IOException.class, dealer::deal);
+    assertEquals("available", dealer.deal());
+    assertEquals("available", dealer.deal());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void concurrentDealSharesFailureWithWaitingCallers() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final Dealer<String> dealer =
+        Idler.concurrentDeal(
+            () -> {
+              started.countDown();
+              release.await();
+              throw new IOException("unavailable");
+            });
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<String> first = executor.submit(dealer::deal);
+      started.await();
+      final Future<String> second = executor.submit(dealer::deal);
+      MILLISECONDS.sleep(100);
+      release.countDown();
+
+      final ExecutionException failure = assertThrows(ExecutionException.class, second::get);
+      assertTrue(failure.getCause() instanceof IOException);
+      assertThrows(ExecutionException.class, first::get);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void concurrentSupplyRejectsRecursiveCall() {
+    final AtomicReference<Supplier<Integer>> self = new AtomicReference<>();
+    self.set(Idler.concurrentSupply(() -> self.get().get()));
+
+    assertThrows(IllegalStateException.class, () -> self.get().get());
+    assertThrows(NullPointerException.class, () -> Idler.concurrentSupply(null));
+  }
+
+  @Test
+  void concurrentSupplyMemoizesNullResult() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<String> supplier =
+        Idler.concurrentSupply(
+            () -> {
+              calls.incrementAndGet();
+              return null;
+            });
+
+    assertNull(supplier.get());
+    assertNull(supplier.get());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void concurrentDealRethrowsFailureUntilBackOffRunsOut() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final Dealer<String> dealer =
+        Idler.concurrentDeal(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                throw new IOException("unavailable");
+              }
+              return "available";
+            },
+            100,
+            MILLISECONDS);
+
+    final IOException failure = assertThrows(IOException.class, dealer::deal);
+    assertSame(failure, assertThrows(IOException.class, dealer::deal));
+    assertEquals(1, calls.get());
+
+    MILLISECONDS.sleep(150);
+    assertEquals("available", dealer.deal());
+    assertEquals("available", dealer.deal());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void concurrentSupplyWithBackOffRejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> Idler.concurrentSupply(() -> 1, 0, SECONDS));
+    assertThrows(NullPointerException.class, () -> Idler.concurrentSupply(() -> 1, 1, null));
+    assertThrows(NullPointerException.class, () -> Idler.concurrentDeal(null, 1, SECONDS));
+  }
+
+  @Test
+  void refreshingSupplyServesOldValueWhileReloading() throws InterruptedException {
+    final AtomicInteger calls = new AtomicInteger();
+    final List<Runnable> reloads = new ArrayList<>();
+    final Supplier<Integer> supplier =
+        Idler.refreshingSupply(calls::incrementAndGet, 50, MILLISECONDS, reloads::add);
+
+    assertEquals(1, supplier.get());
+    assertEquals(1, supplier.get());
+    assertTrue(reloads.isEmpty());
+
+    MILLISECONDS.sleep(80);
+    assertEquals(1, supplier.get());
+    assertEquals(1, supplier.get());
+    assertEquals(1, reloads.size());
+
+    reloads.get(0).run();
+    assertEquals(2, supplier.get());
+    assertEquals(1, reloads.size());
+  }
+
+  @Test
+  void refreshingDealKeepsOldValueWhenReloadFails() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final List<Runnable> reloads = new ArrayList<>();
+    final Dealer<Integer> dealer =
+        Idler.refreshingDeal(
+            () -> {
+              if (calls.incrementAndGet() == 2) {
+                throw new IOException("unavailable");
+              }
+              return calls.get();
+            },
+            50,
+            MILLISECONDS,
+            reloads::add);
+
+    assertEquals(1, dealer.deal());
+    MILLISECONDS.sleep(80);
+    assertEquals(1, dealer.deal());
+    reloads.get(0).run();
+    assertEquals(1, dealer.deal());
+    assertEquals(2, reloads.size());
+    reloads.get(1).run();
+    assertEquals(3, dealer.deal());
+  }
+
+  @Test
+  void refreshingSupplyKeepsOldValueWhenReloadIsRejected() throws InterruptedException {
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Integer> supplier =
+        Idler.refreshingSupply(
+            calls::incrementAndGet,
+            50,
+            MILLISECONDS,
+            task -> {
+              throw new RejectedExecutionException("shut down");
+            });
+
+    assertEquals(1, supplier.get());
+    MILLISECONDS.sleep(80);
+    assertEquals(1, supplier.get());
+    assertEquals(1, supplier.get());
+    assertEquals(1, calls.get());
+    assertThrows(
+        NullPointerException.class, () -> Idler.refreshingSupply(() -> 1, 1, SECONDS, null));
+    assertThrows(
+        IllegalArgumentException.class, () -> Idler.refreshingDeal(() -> 1, 0, SECONDS, r -> {}));
+  }
+}
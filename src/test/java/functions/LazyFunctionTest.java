@@ -24,15 +24,28 @@
 package functions;
 
 import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import art.cutils.function.LazyFunction;
 import art.cutils.function.ThrowingFunction;
+import art.cutils.value.Try;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -89,6 +102,20 @@ final class LazyFunctionTest {
     assertEquals(f1.hashCode(), f2.hashCode());
   }
 
+  @Test
+  void lazyFunctionsOfSameFunctionWithSameResultsAreEqual() {
+    final Function<String, Integer> length = String::length;
+    final Function<String, Integer> f1 = LazyFunction.of(length);
+    final Function<String, Integer> f2 = LazyFunction.of(length);
+    f1.apply("abc");
+    f2.apply("abc");
+
+    assertEquals(f1, f2);
+    assertEquals(f1.hashCode(), f2.hashCode());
+    f2.apply("abcd");
+    assertNotEquals(f1, f2);
+  }
+
   @Test
   void equalsAndHashCodeContractToBeInvalid() {
     final Function<String, String> f1 = LazyFunction.of(value -> value.replace("o", "0"));
@@ -98,4 +125,246 @@ final class LazyFunctionTest {
     assertNotEquals(f1, "");
     assertNotEquals(f1.hashCode(), f2.hashCode());
   }
-}
\ No newline at end of file
+
+  @Test
+  void boundedLazyFunctionEvictsLeastRecentlyUsedResult() {
+    final AtomicInteger computations = new AtomicInteger();
+    final LazyFunction<Integer, Integer> fn =
+        LazyFunction.of(
+            value -> {
+              computations.incrementAndGet();
+              return value * 2;
+            },
+            2);
+
+    assertEquals(2, fn.apply(1));
+    assertEquals(4, fn.apply(2));
+    assertEquals(2, fn.apply(1)); // hit, 1 is now the most recently used
+    assertEquals(6, fn.apply(3)); // evicts 2
+
+    assertEquals(2, fn.size());
+    assertEquals(3, computations.get());
+
+    assertEquals(4, fn.apply(2)); // evicted, computed again
+    assertEquals(4, computations.get());
+    assertEquals(1, fn.getHitCount());
+    assertEquals(4, fn.getMissCount());
+  }
+
+  @Test
+  void boundedLazyFunctionStaysWithinMaxEntries() {
+    final LazyFunction<Integer, Integer> fn = LazyFunction.of(value -> value + 1, 100);
+
+    for (int i = 0; i < 100_000; i++) {
+      fn.apply(i);
+    }
+
+    assertTrue(fn.size() <= 100);
+    assertEquals(100_000, fn.getMissCount());
+  }
+
+  @Test
+  void boundedLazyFunctionRejectsInvalidArguments() {
+    assertThrows(NullPointerException.class, () -> LazyFunction.of(null, 10));
+    assertThrows(IllegalArgumentException.class, () -> LazyFunction.of(value -> value, 0));
+  }
+
+  @Test
+  void singleFlightLazyFunctionComputesOnceForConcurrentCallers() throws Exception {
+    final AtomicInteger computations = new AtomicInteger();
+    final LazyFunction<Integer, Integer> fn =
+        LazyFunction.<Integer, Integer>builder(
+                ThrowingFunction.unchecked(
+                    value -> {
+                      computations.incrementAndGet();
+                      Thread.sleep(200); // mock operation with high latency
+                      return value * 2;
+                    }))
+            .singleFlight()
+            .build();
+
+    final int callers = 8;
+    final ExecutorService es = Executors.newFixedThreadPool(callers);
+    final CountDownLatch start = new CountDownLatch(1);
+    final List<Future<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < callers; i++) {
+      results.add(
+          es.submit(
+              () -> {
+                start.await();
+                return fn.apply(21);
+              }));
+    }
+    start.countDown();
+    for (final Future<Integer> result : results) {
+      assertEquals(42, result.get());
+    }
+    es.shutdown();
+
+    assertEquals(1, computations.get());
+    assertEquals(1, fn.getMissCount());
+    assertEquals(callers - 1, fn.getHitCount());
+  }
+
+  @Test
+  void singleFlightLazyFunctionSharesFailureAndRetries() {
+    final AtomicInteger computations = new AtomicInteger();
+    final LazyFunction<String, Integer> fn =
+        LazyFunction.<String, Integer>builder(
+                value -> {
+                  if (computations.incrementAndGet() == 1) {
+                    throw new IllegalStateException("first call fails");
+                  }
+                  return value.length();
+                })
+            .singleFlight()
+            .build();
+
+    assertThrows(IllegalStateException.class, () -> fn.apply("abc"));
+    assertEquals(3, fn.apply("abc"));
+    assertEquals(3, fn.apply("abc"));
+    assertEquals(2, computations.get());
+  }
+
+  @Test
+  void singleFlightLazyFunctionSharesFailureWithWaitingCallers() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final LazyFunction<String, Integer> fn =
+        LazyFunction.<String, Integer>builder(
+                value -> {
+                  started.countDown();
+                  Try.of(() -> release.await());
+                  throw new IllegalStateException("shared failure");
+                })
+            .singleFlight()
+            .build();
+
+    final ExecutorService es = Executors.newFixedThreadPool(2);
+    try {
+      final Future<Integer> first = es.submit(() -> fn.apply("abc"));
+      started.await();
+      final Future<Integer> second = es.submit(() -> fn.apply("abc"));
+      MILLISECONDS.sleep(100);
+      release.countDown();
+
+      final ExecutionException failure = assertThrows(ExecutionException.class, second::get);
+      assertTrue(failure.getCause() instanceof IllegalStateException);
+      assertThrows(ExecutionException.class, first::get);
+    } finally {
+      es.shutdown();
+    }
+  }
+
+  @Test
+  void singleFlightLazyFunctionRejectsRecursionOnSameArgument() {
+    final AtomicReference<Function<Integer, Integer>> self = new AtomicReference<>();
+    self.set(
+        LazyFunction.<Integer, Integer>builder(value -> self.get().apply(value))
+            .singleFlight()
+            .build());
+
+    assertThrows(IllegalStateException.class, () -> self.get().apply(1));
+  }
+
+  @Test
+  void expiringLazyFunctionRecomputesAfterWrite() throws InterruptedException {
+    final AtomicInteger computations = new AtomicInteger();
+    final LazyFunction<String, Integer> fn =
+        LazyFunction.<String, Integer>builder(value -> computations.incrementAndGet())
+            .expireAfterWrite(50, MILLISECONDS)
+            .build();
+
+    assertEquals(1, fn.apply("abc"));
+    assertEquals(1, fn.apply("abc"));
+    MILLISECONDS.sleep(80);
+    assertEquals(2, fn.apply("abc"));
+    assertEquals(1, fn.getHitCount());
+    assertEquals(2, fn.getMissCount());
+  }
+
+  @Test
+  void expiringLazyFunctionKeepsResultWhileAccessed() throws InterruptedException {
+    final AtomicInteger computations = new AtomicInteger();
+    final LazyFunction<String, Integer> fn =
+        LazyFunction.<String, Integer>builder(value -> computations.incrementAndGet())
+            .expireAfterAccess(200, MILLISECONDS)
+            .build();
+
+    assertEquals(1, fn.apply("abc"));
+    for (int i = 0; i < 5; i++) {
+      MILLISECONDS.sleep(50);
+      assertEquals(1, fn.apply("abc"));
+    }
+    MILLISECONDS.sleep(300);
+    assertEquals(2, fn.apply("abc"));
+  }
+
+  @Test
+  void expiringLazyFunctionCleansUpExpiredResults() throws InterruptedException {
+    final LazyFunction<Integer, Integer> fn =
+        LazyFunction.<Integer, Integer>builder(value -> value * 2)
+            .expireAfterWrite(50, MILLISECONDS)
+            .build();
+
+    fn.apply(1);
+    fn.apply(2);
+    assertEquals(2, fn.size());
+    MILLISECONDS.sleep(80);
+    fn.cleanUp();
+    assertEquals(0, fn.size());
+  }
+
+  @Test
+  void refreshingLazyFunctionServesStaleResultWhileReloading() throws InterruptedException {
+    final AtomicInteger computations = new AtomicInteger();
+    final List<Runnable> reloads = new ArrayList<>();
+    final LazyFunction<String, Integer> fn =
+        LazyFunction.<String, Integer>builder(value -> computations.incrementAndGet())
+            .refreshAfterWrite(50, MILLISECONDS, reloads::add)
+            .build();
+
+    assertEquals(1, fn.apply("abc"));
+    MILLISECONDS.sleep(80);
+    assertEquals(1, fn.apply("abc"));
+    assertEquals(1, fn.apply("abc"));
+    assertEquals(1, reloads.size());
+
+    reloads.get(0).run();
+    assertEquals(2, fn.apply("abc"));
+    assertEquals(2, computations.get());
+  }
+
+  @Test
+  void refreshingLazyFunctionKeepsStaleResultWhenReloadFails() throws InterruptedException {
+    final AtomicInteger computations = new AtomicInteger();
+    final List<Runnable> reloads = new ArrayList<>();
+    final LazyFunction<String, Integer> fn =
+        LazyFunction.<String, Integer>builder(
+                value -> {
+                  if (computations.incrementAndGet() > 1) {
+                    throw new IllegalStateException("reload failed");
+                  }
+                  return 1;
+                })
+            .refreshAfterWrite(50, MILLISECONDS, reloads::add)
+            .build();
+
+    assertEquals(1, fn.apply("abc"));
+    MILLISECONDS.sleep(80);
+    assertEquals(1, fn.apply("abc"));
+    reloads.get(0).run();
+    assertEquals(1, fn.apply("abc"));
+    assertEquals(2, reloads.size());
+  }
+
+  @Test
+  void expiringLazyFunctionRejectsInvalidArguments() {
+    final LazyFunction.Builder<Integer, Integer> builder = LazyFunction.builder(value -> value);
+
+    assertThrows(IllegalArgumentException.class, () -> builder.expireAfterWrite(0, SECONDS));
+    assertThrows(IllegalArgumentException.class, () -> builder.expireAfterAccess(-1, SECONDS));
+    assertThrows(NullPointerException.class, () -> builder.expireAfterWrite(1, null));
+    assertThrows(NullPointerException.class, () -> builder.refreshAfterWrite(1, SECONDS, null));
+  }
+}
@@ -28,6 +28,10 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import art.cutils.function.LazyUnaryOperator;
@@ -105,4 +109,28 @@ final class LazyUnaryOperatorTest {
     assertNotEquals(o1, "");
     assertNotEquals(o1.hashCode(), o2.hashCode());
   }
-}
\ No newline at end of file
+
+  @Test
+  void singleFlightLazyUnaryOperatorComputesOnceForConcurrentCallers() throws Exception {
+    final AtomicInteger computations = new AtomicInteger();
+    final UnaryOperator<String> operator =
+        LazyUnaryOperator.singleFlight(
+            ThrowingUnaryOperation.unchecked(
+                value -> {
+                  computations.incrementAndGet();
+                  Thread.sleep(200); // mock operation with high latency
+                  return value.toUpperCase();
+                }));
+
+    final ExecutorService es = Executors.newFixedThreadPool(4);
+    final Future<String> first = es.submit(() -> operator.apply("cutils"));
+    final Future<String> second = es.submit(() -> operator.apply("cutils"));
+    final Future<String> third = es.submit(() -> operator.apply("cutils"));
+
+    Assertions.assertEquals("CUTILS", first.get());
+    Assertions.assertEquals("CUTILS", second.get());
+    Assertions.assertEquals("CUTILS", third.get());
+    Assertions.assertEquals(1, computations.get());
+    es.shutdown();
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.AsyncTry;
+import art.cutils.value.Try;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Async Try Operation test.")
+final class AsyncTryTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    this.executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void operationRunsOnExecutorWithoutBlockingCaller() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<Thread> runner = new AtomicReference<>();
+    final AsyncTry<Integer> result =
+        AsyncTry.of(
+            () -> {
+              runner.set(Thread.currentThread());
+              release.await();
+              return Integer.parseInt("0025");
+            },
+            this.executor);
+
+    assertFalse(result.isDone());
+    release.countDown();
+
+    final Try<Integer> outcome = result.toTry();
+    assertTrue(result.isDone());
+    assertTrue(outcome.isSuccess());
+    assertEquals(25, outcome.get());
+    assertNotEquals(Thread.currentThread(), runner.get());
+  }
+
+  @Test
+  void stagesApplyOnceComplete() {
+    final AtomicReference<Integer> seen = new AtomicReference<>();
+    final AtomicReference<Integer> succeeded = new AtomicReference<>();
+
+    final Try<String> outcome =
+        AsyncTry.of(() -> Integer.parseInt("16"), this.executor)
+            .peek(seen::set)
+            .filter(value -> value > 10)
+            .map(value -> (int) Math.sqrt(value))
+            .onSuccess(succeeded::set)
+            .onFailure(cause -> succeeded.set(-1))
+            .map(String::valueOf)
+            .toTry();
+
+    assertEquals("4", outcome.get());
+    assertEquals(16, seen.get());
+    assertEquals(4, succeeded.get());
+  }
+
+  @Test
+  void filterEmptiesUnmatchedResult() {
+    final Try<Integer> outcome =
+        AsyncTry.of(() -> Integer.parseInt("3"), this.executor).filter(value -> value > 10).toTry();
+
+    assertTrue(outcome.isSuccess());
+    assertTrue(outcome.isEmpty());
+  }
+
+  @Test
+  void failurePropagatesThroughStages() {
+    final AtomicReference<Throwable> failed = new AtomicReference<>();
+
+    final Try<Integer> outcome =
+        AsyncTry.of(() -> Integer.parseInt("cutils"), this.executor)
+            .map(value -> value * 2)
+            .onFailure(failed::set)
+            .toTry();
+
+    assertTrue(outcome.isFailure());
+    assertInstanceOf(NumberFormatException.class, outcome.getCause());
+    assertSame(outcome.getCause(), failed.get());
+  }
+
+  @Test
+  void throwingStageBecomesFailure() {
+    final Try<Integer> outcome =
+        AsyncTry.from(Try.of(() -> 1))
+            .filter(
+                value -> {
+                  throw new IllegalStateException("predicate failed");
+                })
+            .toTry();
+
+    assertTrue(outcome.isFailure());
+    assertInstanceOf(IllegalStateException.class, outcome.getCause());
+  }
+
+  @Test
+  void executableOperationSucceedsWithoutResult() {
+    final AtomicReference<String> ran = new AtomicReference<>();
+    final Try<Object> outcome = AsyncTry.of(() -> ran.set("ran"), this.executor).toTry();
+
+    assertTrue(outcome.isSuccess());
+    assertFalse(outcome.isResult());
+    assertEquals("ran", ran.get());
+  }
+
+  @Test
+  void rejectedOperationBecomesFailure() {
+    this.executor.shutdown();
+
+    final Try<Integer> outcome = AsyncTry.of(() -> 1, this.executor).toTry();
+
+    assertTrue(outcome.isFailure());
+    assertInstanceOf(RejectedExecutionException.class, outcome.getCause());
+  }
+
+  @Test
+  void convertsFromAndToCompletableFuture() {
+    final CompletableFuture<Integer> source = new CompletableFuture<>();
+    final AsyncTry<Integer> result = AsyncTry.from(source).map(value -> value + 1);
+    assertFalse(result.isDone());
+
+    source.complete(41);
+    assertEquals(42, result.toCompletableFuture().join());
+
+    final CompletableFuture<Integer> failing = new CompletableFuture<>();
+    failing.completeExceptionally(new IOException("unavailable"));
+    final Try<Integer> failed = AsyncTry.from(failing).toTry();
+    assertInstanceOf(IOException.class, failed.getCause());
+
+    final CompletionException thrown =
+        assertThrows(
+            CompletionException.class, () -> AsyncTry.from(failed).toCompletableFuture().join());
+    assertInstanceOf(IOException.class, thrown.getCause());
+
+    assertNull(AsyncTry.from(CompletableFuture.completedFuture(null)).toTry().get());
+  }
+
+  @Test
+  void rejectsNullArguments() {
+    assertThrows(NullPointerException.class, () -> AsyncTry.of(() -> 1, null));
+    assertThrows(NullPointerException.class, () -> AsyncTry.from((Try<Object>) null));
+    assertThrows(NullPointerException.class, () -> AsyncTry.from((CompletableFuture<Object>) null));
+    assertThrows(NullPointerException.class, () -> AsyncTry.from(Try.of(() -> 1)).map(null));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Deadline;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Deadline Operation test.")
+final class DeadlineTest {
+
+  @Test
+  void deadlineExpires() throws TimeoutException {
+    final Deadline later = Deadline.after(1, TimeUnit.HOURS);
+    assertFalse(later.isExpired());
+    assertTrue(later.remaining(TimeUnit.MINUTES) > 50);
+    later.check();
+    assertTrue(later.toString().startsWith("Deadline{remaining="));
+
+    final Deadline passed = Deadline.after(0, TimeUnit.NANOSECONDS);
+    assertTrue(passed.isExpired());
+    assertTrue(passed.remaining(TimeUnit.NANOSECONDS) <= 0);
+    assertThrows(TimeoutException.class, passed::check);
+    assertThrows(NullPointerException.class, () -> Deadline.after(1, null));
+  }
+
+  @Test
+  void noDeadlineNeverExpires() throws TimeoutException {
+    final Deadline none = Deadline.none();
+    assertFalse(none.isExpired());
+    assertEquals(Long.MAX_VALUE, none.remaining(TimeUnit.NANOSECONDS));
+    none.check();
+    assertEquals("Deadline{none}", none.toString());
+
+    final Deadline far = Deadline.after(Long.MAX_VALUE, TimeUnit.DAYS);
+    assertFalse(far.isExpired());
+  }
+
+  @Test
+  void minTakesTheEarlierDeadline() {
+    final Deadline sooner = Deadline.after(1, TimeUnit.SECONDS);
+    final Deadline later = Deadline.after(1, TimeUnit.HOURS);
+
+    assertSame(sooner, sooner.min(later));
+    assertSame(sooner, later.min(sooner));
+    assertSame(sooner, sooner.min(Deadline.none()));
+    assertSame(sooner, Deadline.none().min(sooner));
+    assertThrows(NullPointerException.class, () -> sooner.min(null));
+  }
+}
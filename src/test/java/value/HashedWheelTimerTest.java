@@ -0,0 +1,169 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.HashedWheelTimer;
+import art.cutils.value.Pause;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Hashed Wheel Timer Operation test.")
+final class HashedWheelTimerTest {
+
+  @Test
+  void tasksRunAfterTheirDelay() throws InterruptedException {
+    try (HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 8)) {
+      final CountDownLatch fired = new CountDownLatch(3);
+      final long start = System.nanoTime();
+      final List<Long> elapsed = new ArrayList<>();
+      for (final long delay : new long[] {30, 5, 0}) {
+        timer.schedule(
+            () -> {
+              synchronized (elapsed) {
+                elapsed.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+              }
+              fired.countDown();
+            },
+            delay,
+            TimeUnit.MILLISECONDS);
+      }
+
+      assertTrue(fired.await(5, TimeUnit.SECONDS));
+      assertEquals(3, elapsed.size());
+      assertTrue(elapsed.get(1) >= 5);
+      assertTrue(elapsed.get(2) >= 30);
+    }
+  }
+
+  @Test
+  void delaysLongerThanTheWheelWaitForTheirRound() throws InterruptedException {
+    try (HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 3)) {
+      final CountDownLatch fired = new CountDownLatch(1);
+      final long start = System.nanoTime();
+
+      timer.schedule(fired::countDown, 20, TimeUnit.MILLISECONDS);
+
+      assertTrue(fired.await(5, TimeUnit.SECONDS));
+      assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+  }
+
+  @Test
+  void cancelledTasksDoNotRun() throws InterruptedException {
+    try (HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 4)) {
+      final AtomicInteger runs = new AtomicInteger();
+      final List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+      for (int i = 0; i < 1_000; i++) {
+        timeouts.add(timer.schedule(runs::incrementAndGet, i % 40, TimeUnit.MILLISECONDS));
+      }
+      TimeUnit.MILLISECONDS.sleep(5);
+      for (int i = 0; i < timeouts.size(); i += 2) {
+        timeouts.get(i).cancel();
+      }
+      final CountDownLatch last = new CountDownLatch(1);
+      timer.schedule(last::countDown, 60, TimeUnit.MILLISECONDS);
+
+      assertTrue(last.await(5, TimeUnit.SECONDS));
+      int cancelled = 0;
+      for (final HashedWheelTimer.Timeout timeout : timeouts) {
+        assertTrue(timeout.isDone());
+        cancelled += timeout.isCancelled() ? 1 : 0;
+      }
+      assertEquals(1_000, runs.get() + cancelled);
+      assertTrue(cancelled > 0);
+      assertFalse(timeouts.get(0).cancel());
+    }
+  }
+
+  @Test
+  void failingTaskDoesNotStopTheTimer() throws InterruptedException {
+    try (HashedWheelTimer timer = HashedWheelTimer.create()) {
+      final CountDownLatch fired = new CountDownLatch(1);
+
+      timer.schedule(
+          () -> {
+            throw new IllegalStateException();
+          },
+          0,
+          TimeUnit.MILLISECONDS);
+      timer.schedule(fired::countDown, 1, TimeUnit.MILLISECONDS);
+
+      assertTrue(fired.await(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void closeCancelsWaitingTasksAndRejectsNewOnes() throws InterruptedException {
+    final HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 16);
+    final HashedWheelTimer.Timeout inBucket = timer.schedule(() -> {}, 1, TimeUnit.HOURS);
+    TimeUnit.MILLISECONDS.sleep(10);
+    final HashedWheelTimer.Timeout pending = timer.schedule(() -> {}, 1, TimeUnit.HOURS);
+
+    timer.close();
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!(inBucket.isCancelled() && pending.isCancelled()) && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(1);
+    }
+
+    assertTrue(inBucket.isCancelled());
+    assertTrue(pending.isCancelled());
+    assertThrows(
+        RejectedExecutionException.class, () -> timer.schedule(() -> {}, 1, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void pauseRunsOnTheTimer() {
+    try (HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 64)) {
+      final Pause.Run.Delay<String> delay =
+          Pause.<String>until(5).milliSeconds().async(timer).thenRun(() -> "done");
+
+      assertEquals("done", delay.getResult());
+    }
+  }
+
+  @Test
+  void invalidSettingsAreRejected() {
+    assertThrows(
+        IllegalArgumentException.class, () -> HashedWheelTimer.create(0, TimeUnit.MILLISECONDS, 8));
+    assertThrows(
+        IllegalArgumentException.class, () -> HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 0));
+    assertThrows(NullPointerException.class, () -> HashedWheelTimer.create(1, null, 8));
+    try (HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.SECONDS, 1)) {
+      assertThrows(NullPointerException.class, () -> timer.schedule(null, 1, TimeUnit.SECONDS));
+      assertThrows(
+          NullPointerException.class,
+          () -> Pause.until(1).seconds().async((HashedWheelTimer) null));
+    }
+  }
+}
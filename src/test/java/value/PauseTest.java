@@ -30,10 +30,22 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.of;
 
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import art.cutils.function.Dealer;
 import art.cutils.function.Executable;
+import art.cutils.value.HashedWheelTimer;
 import art.cutils.value.Pause;
 import art.cutils.value.Try;
 import org.jetbrains.annotations.NotNull;
@@ -207,6 +219,27 @@ final class PauseTest {
         p2.seconds().thenRun(() -> {}));
   }
 
+  @Test
+  void runsOnTheSameSchedulerAreEqual() {
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    final ScheduledExecutorService other = Executors.newSingleThreadScheduledExecutor();
+    try (HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 16)) {
+      assertEquals(
+          Pause.until(1).seconds().async(scheduler), Pause.until(1).seconds().async(scheduler));
+      assertEquals(
+          Pause.until(1).seconds().async(scheduler).hashCode(),
+          Pause.until(1).seconds().async(scheduler).hashCode());
+      assertEquals(Pause.until(1).seconds().async(timer), Pause.until(1).seconds().async(timer));
+      assertEquals(Pause.until(1).seconds().async(), Pause.until(1).seconds().async());
+      assertNotEquals(
+          Pause.until(1).seconds().async(scheduler), Pause.until(1).seconds().async(other));
+      assertNotEquals(Pause.until(1).seconds().async(), Pause.until(1).seconds());
+    } finally {
+      scheduler.shutdown();
+      other.shutdown();
+    }
+  }
+
   @Test
   void testPauseEmpty() {
     Pause.until(1)
@@ -217,4 +250,181 @@ final class PauseTest {
               Assertions.assertFalse(result.isResult());
             });
   }
-}
\ No newline at end of file
+
+  @Test
+  void onCompleteConsumerExceptionsPropagateOnceRun() {
+    final IllegalStateException thrown =
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () ->
+                Pause.<Integer>until(1)
+                    .nanoSeconds()
+                    .thenRun(() -> 1)
+                    .onComplete(
+                        result -> {
+                          throw new IllegalStateException("consumer");
+                        }));
+    assertEquals("consumer", thrown.getMessage());
+  }
+
+  @Test
+  void pendingDelaysCompareWithoutWaiting() {
+    final Pause.Run.Delay<Integer> pending =
+        Pause.<Integer>until(10).seconds().async().thenRun(() -> 1);
+    final Pause.Run.Delay<Integer> other =
+        Pause.<Integer>until(10).seconds().async().thenRun(() -> 1);
+
+    assertEquals(pending, pending);
+    assertNotEquals(pending, other);
+    assertEquals(System.identityHashCode(pending), pending.hashCode());
+    assertFalse(pending.isDone());
+    assertTrue(pending.cancel());
+    assertTrue(other.cancel());
+
+    assertEquals(
+        Pause.<Integer>until(1).nanoSeconds().thenRun(() -> 1),
+        Pause.<Integer>until(1).nanoSeconds().thenRun(() -> 1));
+  }
+
+  @Test
+  void asyncPauseDoesNotHoldTheCallingThread() {
+    final long start = System.nanoTime();
+    final List<Pause.Run.Delay<Integer>> delays =
+        IntStream.range(0, 2_000)
+            .mapToObj(i -> Pause.<Integer>until(200).milliSeconds().async().thenRun(() -> i))
+            .collect(Collectors.toList());
+
+    assertFalse(delays.get(delays.size() - 1).isDone());
+    for (int i = 0; i < delays.size(); i++) {
+      assertEquals(i, delays.get(i).getResult());
+    }
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  void asyncPauseRunsOnTheGivenScheduler() throws InterruptedException {
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    final AtomicReference<String> thread = new AtomicReference<>();
+    final CountDownLatch completed = new CountDownLatch(1);
+    try {
+      Pause.until(10)
+          .milliSeconds()
+          .async(scheduler)
+          .thenRun(() -> thread.set(Thread.currentThread().getName()))
+          .onComplete(
+              result -> {
+                assertTrue(result.isSuccess());
+                completed.countDown();
+              });
+
+      assertTrue(completed.await(5, TimeUnit.SECONDS));
+      assertTrue(thread.get().startsWith("pool-"));
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @Test
+  void asyncPauseOutcomeCanBeChained() {
+    final Try<Integer> chained =
+        Pause.<Integer>until(1)
+            .milliSeconds()
+            .async()
+            .thenRun(() -> 20)
+            .toAsyncTry()
+            .map(n -> n + 1)
+            .toTry();
+
+    assertEquals(21, chained.get());
+    assertFalse(Pause.until(1).nanoSeconds().async().empty().get().isResult());
+    assertEquals(
+        Pause.<String>until(1).nanoSeconds().async().thenRun(() -> "a").get(),
+        Pause.<String>until(2).nanoSeconds().thenRun(() -> "a").get());
+  }
+
+  @Test
+  void asyncPauseFailures() {
+    final ScheduledExecutorService shutdown = Executors.newSingleThreadScheduledExecutor();
+    shutdown.shutdown();
+
+    final Try<Object> rejected = Pause.until(1).seconds().async(shutdown).empty().get();
+    final Try<Object> error =
+        Pause.until(1)
+            .nanoSeconds()
+            .async()
+            .thenRun(
+                () -> {
+                  throw new AssertionError();
+                })
+            .get();
+
+    assertTrue(rejected.getCause() instanceof RejectedExecutionException);
+    assertTrue(error.getCause() instanceof AssertionError);
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> Pause.until(1).seconds().async((ScheduledExecutorService) null));
+  }
+
+  @Test
+  void cancelledDelaySkipsTheOperation() throws InterruptedException {
+    final AtomicInteger runs = new AtomicInteger();
+    final Pause.Run.Delay<Object> delay =
+        Pause.until(50).milliSeconds().async().thenRun(runs::incrementAndGet);
+
+    assertFalse(delay.isDone());
+    assertTrue(delay.cancel());
+    assertFalse(delay.cancel());
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    assertTrue(delay.isDone());
+    assertEquals(0, runs.get());
+    assertTrue(delay.get().getCause() instanceof CancellationException);
+  }
+
+  @Test
+  void completedOrBlockingDelayCannotBeCancelled() {
+    final Pause.Run.Delay<String> async =
+        Pause.<String>until(1).nanoSeconds().async().thenRun(() -> "done");
+    final Pause.Run.Delay<String> blocking =
+        Pause.<String>until(1).nanoSeconds().thenRun(() -> "done");
+
+    assertEquals("done", async.getResult());
+    assertFalse(async.cancel());
+    assertTrue(blocking.isDone());
+    assertFalse(blocking.cancel());
+    assertEquals("done", blocking.get(1, TimeUnit.MILLISECONDS).get());
+  }
+
+  @Test
+  void getWithTimeoutFailsWhenTheDelayIsLonger() {
+    final Pause.Run.Delay<Object> delay = Pause.until(1).hours().async().empty();
+
+    assertTrue(delay.get(10, TimeUnit.MILLISECONDS).getCause() instanceof TimeoutException);
+    Thread.currentThread().interrupt();
+    assertTrue(delay.get(1, TimeUnit.SECONDS).getCause() instanceof InterruptedException);
+    assertTrue(Thread.interrupted());
+    assertTrue(delay.cancel());
+  }
+
+  @Test
+  void speculativeDelaysOnATimerAreMostlyCancelled() {
+    try (HashedWheelTimer timer = HashedWheelTimer.create(1, TimeUnit.MILLISECONDS, 256)) {
+      final AtomicInteger runs = new AtomicInteger();
+      final List<Pause.Run.Delay<Object>> delays =
+          IntStream.range(0, 10_000)
+              .mapToObj(
+                  i ->
+                      Pause.until(i == 0 ? 1 : 5_000 + i % 20)
+                          .milliSeconds()
+                          .async(timer)
+                          .thenRun(runs::incrementAndGet))
+              .collect(Collectors.toList());
+
+      delays.subList(1, delays.size()).forEach(Pause.Run.Delay::cancel);
+
+      assertTrue(delays.get(0).get().isSuccess());
+      assertTrue(delays.get(delays.size() - 1).get().isFailure());
+      assertEquals(1, runs.get());
+    }
+  }
+}
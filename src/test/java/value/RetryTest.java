@@ -0,0 +1,236 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Retry;
+import art.cutils.value.Try;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Retry Operation test.")
+final class RetryTest {
+
+  private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(1);
+
+  private static final Retry QUICK =
+      Retry.builder().maxAttempts(4).backOff(0, 1, TimeUnit.MILLISECONDS).build();
+
+  @AfterAll
+  static void shutdown() {
+    SCHEDULER.shutdownNow();
+  }
+
+  private static Integer failTwice(final AtomicInteger attempts) throws IOException {
+    if (attempts.incrementAndGet() < 3) {
+      throw new IOException("attempt " + attempts.get());
+    }
+    return attempts.get();
+  }
+
+  @Test
+  void retriesUntilSuccess() {
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final Try<Integer> outcome = QUICK.run(() -> failTwice(attempts));
+
+    assertEquals(3, outcome.get());
+    assertEquals(3, attempts.get());
+    assertEquals(4, QUICK.getMaxAttempts());
+  }
+
+  @Test
+  void stopsAfterMaxAttemptsWithLastFailure() {
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final Try<Integer> outcome =
+        QUICK.run(
+            () -> {
+              throw new IOException("attempt " + attempts.incrementAndGet());
+            });
+
+    assertEquals(4, attempts.get());
+    assertEquals("attempt 4", outcome.getCause().getMessage());
+  }
+
+  @Test
+  void failureNotMatchingRetryOnIsReturnedAtOnce() {
+    final Retry retry =
+        Retry.builder()
+            .backOff(0, 0, TimeUnit.MILLISECONDS)
+            .retryOn(IOException.class::isInstance)
+            .build();
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final Try<Object> outcome =
+        retry.run(
+            () -> {
+              attempts.incrementAndGet();
+              throw new IllegalStateException();
+            });
+
+    assertEquals(1, attempts.get());
+    assertInstanceOf(IllegalStateException.class, outcome.getCause());
+  }
+
+  @Test
+  void deadlineStopsWaitsThatWouldOverrunIt() {
+    final Retry retry =
+        Retry.builder()
+            .maxAttempts(Integer.MAX_VALUE)
+            .backOff(5, 20, TimeUnit.MILLISECONDS)
+            .deadline(100, TimeUnit.MILLISECONDS)
+            .build();
+    final AtomicInteger attempts = new AtomicInteger();
+    final long start = System.nanoTime();
+
+    final Try<Object> outcome =
+        retry.run(
+            () -> {
+              attempts.incrementAndGet();
+              throw new IOException();
+            });
+
+    assertTrue(outcome.isFailure());
+    assertTrue(attempts.get() > 1);
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void interruptedWaitReturnsLastFailure() {
+    final Retry retry = Retry.builder().backOff(1, 1, TimeUnit.HOURS).build();
+    Thread.currentThread().interrupt();
+
+    final Try<Object> outcome =
+        retry.run(
+            () -> {
+              throw new IOException();
+            });
+
+    assertTrue(Thread.interrupted());
+    assertInstanceOf(IOException.class, outcome.getCause());
+  }
+
+  @Test
+  void runAsyncRetriesOnScheduler() throws Exception {
+    final AtomicInteger attempts = new AtomicInteger();
+
+    final CompletableFuture<Integer> outcome = QUICK.runAsync(() -> failTwice(attempts), SCHEDULER);
+
+    assertEquals(3, outcome.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void runAsyncCompletesExceptionallyWithLastFailure() {
+    final CompletableFuture<Object> outcome =
+        QUICK.runAsync(
+            () -> {
+              throw new IOException("always");
+            },
+            SCHEDULER);
+
+    final ExecutionException e =
+        assertThrows(ExecutionException.class, () -> outcome.get(5, TimeUnit.SECONDS));
+    assertEquals("always", e.getCause().getMessage());
+  }
+
+  @Test
+  void runAsyncFailsWhenRetryOnThrows() {
+    final IllegalStateException broken = new IllegalStateException("broken predicate");
+    final Retry retry =
+        Retry.builder()
+            .retryOn(
+                cause -> {
+                  throw broken;
+                })
+            .build();
+
+    final CompletableFuture<Object> outcome =
+        retry.runAsync(
+            () -> {
+              throw new IOException("always");
+            },
+            SCHEDULER);
+
+    final ExecutionException e =
+        assertThrows(ExecutionException.class, () -> outcome.get(5, TimeUnit.SECONDS));
+    assertEquals(broken, e.getCause());
+  }
+
+  @Test
+  void runAsyncStopsWhenCancelled() throws Exception {
+    final Retry retry = Retry.builder().backOff(20, 20, TimeUnit.MILLISECONDS).build();
+    final AtomicInteger attempts = new AtomicInteger();
+    final CompletableFuture<Integer> outcome =
+        retry.runAsync(
+            () -> {
+              if (attempts.incrementAndGet() > 0) {
+                throw new IOException();
+              }
+              return 0;
+            },
+            SCHEDULER);
+
+    outcome.cancel(false);
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    assertTrue(attempts.get() <= 1);
+  }
+
+  @Test
+  void rejectedAttemptFailsTheFuture() {
+    final ScheduledExecutorService shutdown = Executors.newSingleThreadScheduledExecutor();
+    shutdown.shutdown();
+
+    final CompletableFuture<Integer> outcome = QUICK.runAsync(() -> 1, shutdown);
+
+    final ExecutionException e = assertThrows(ExecutionException.class, outcome::get);
+    assertInstanceOf(RejectedExecutionException.class, e.getCause());
+  }
+
+  @Test
+  void invalidSettingsAreRejected() {
+    final Retry.Builder builder = Retry.builder();
+
+    assertThrows(IllegalArgumentException.class, () -> builder.maxAttempts(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.backOff(-1, 1, TimeUnit.SECONDS));
+    assertThrows(IllegalArgumentException.class, () -> builder.backOff(2, 1, TimeUnit.SECONDS));
+    assertThrows(IllegalArgumentException.class, () -> builder.deadline(0, TimeUnit.SECONDS));
+    assertThrows(NullPointerException.class, () -> builder.retryOn(null));
+    assertThrows(NullPointerException.class, () -> QUICK.run(null));
+    assertThrows(NullPointerException.class, () -> QUICK.runAsync(() -> 1, null));
+  }
+}
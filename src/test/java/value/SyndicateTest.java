@@ -23,19 +23,32 @@
 
 package value;
 
+import art.cutils.value.AsyncTry;
 import art.cutils.value.Pause;
 import art.cutils.value.Syndicate;
 import art.cutils.value.Syndicate.Close;
 import art.cutils.value.Try;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -249,4 +262,511 @@ final class SyndicateTest {
     Assertions.assertNotEquals(close, s2.apply().onComplete(futures -> {}));
     Assertions.assertEquals(close, s1.apply().onComplete(futures -> {}));
   }
+
+  @Test
+  void iteratorReturnsOutcomesInCompletionOrder() {
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final Iterator<Try<String>> outcomes =
+          syndicate
+              .add(
+                  () -> {
+                    TimeUnit.MILLISECONDS.sleep(300);
+                    return "slow";
+                  })
+              .add(() -> "fast")
+              .add(
+                  () -> {
+                    throw new IllegalStateException("failed");
+                  })
+              .apply()
+              .iterator();
+
+      final List<Try<String>> firstTwo = Arrays.asList(outcomes.next(), outcomes.next());
+      Assertions.assertTrue(
+          firstTwo.stream().anyMatch(t -> t.isSuccess() && "fast".equals(t.get())));
+      Assertions.assertTrue(
+          firstTwo.stream().anyMatch(t -> t.getCause() instanceof IllegalStateException));
+      Assertions.assertEquals("slow", outcomes.next().get());
+      Assertions.assertFalse(outcomes.hasNext());
+      Assertions.assertThrows(NoSuchElementException.class, outcomes::next);
+    }
+  }
+
+  @Test
+  void streamAndOnEachCoverEveryTask() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init(Executors.newFixedThreadPool(2))) {
+      this.numbers.forEach(n -> syndicate.add(() -> n * n));
+
+      try (final Stream<Try<Integer>> outcomes = syndicate.apply().stream()) {
+        Assertions.assertEquals(14, outcomes.mapToInt(Try::get).sum());
+      }
+
+      final List<Integer> each = new ArrayList<>();
+      syndicate.apply().onEach(outcome -> each.add(outcome.get()));
+      Assertions.assertEquals(new HashSet<>(Arrays.asList(1, 4, 9)), new HashSet<>(each));
+    }
+  }
+
+  @Test
+  void completionOrderCancelsTasksStillRunningAtTimeout() {
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final List<Try<String>> outcomes =
+          syndicate
+              .add(() -> "fast")
+              .add(
+                  () -> {
+                    TimeUnit.SECONDS.sleep(10);
+                    return "slow";
+                  })
+              .apply(200, TimeUnit.MILLISECONDS)
+              .stream()
+              .collect(Collectors.toList());
+
+      Assertions.assertEquals("fast", outcomes.get(0).get());
+      Assertions.assertTrue(outcomes.get(1).getCause() instanceof CancellationException);
+    }
+  }
+
+  @Test
+  void completionOrderReportsInterruptionAndRejection() {
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final Iterator<Try<String>> outcomes =
+          syndicate
+              .add(
+                  () -> {
+                    TimeUnit.SECONDS.sleep(10);
+                    return "slow";
+                  })
+              .apply()
+              .iterator();
+
+      Thread.currentThread().interrupt();
+      final Throwable cause = outcomes.next().getCause();
+      Assertions.assertTrue(cause instanceof CancellationException);
+      Assertions.assertTrue(cause.getCause() instanceof InterruptedException);
+      Assertions.assertTrue(Thread.interrupted());
+    }
+
+    final ExecutorService shutdown = Executors.newSingleThreadExecutor();
+    shutdown.shutdown();
+    final Try<String> rejected =
+        Syndicate.<String>init(shutdown).add(() -> "never").apply().iterator().next();
+    Assertions.assertTrue(rejected.getCause() instanceof RejectedExecutionException);
+  }
+
+  @Test
+  void virtualSyndicateRunsBlockingTasks() {
+    try (final Syndicate<String> syndicate = Syndicate.initVirtual()) {
+      for (int i = 0; i < 1_000; i++) {
+        syndicate.add(
+            () -> {
+              TimeUnit.MILLISECONDS.sleep(10);
+              return Thread.currentThread().toString();
+            });
+      }
+
+      final List<Try<String>> threads = syndicate.apply().stream().collect(Collectors.toList());
+
+      Assertions.assertEquals(1_000, threads.size());
+      Assertions.assertEquals(
+          Syndicate.supportsVirtualThreads(), threads.get(0).get().startsWith("VirtualThread"));
+      Assertions.assertEquals(
+          !Syndicate.supportsVirtualThreads(), threads.get(0).get().contains("cutils-syndicate-"));
+    }
+  }
+
+  @Test
+  void limitedSyndicatePullsTasksLazily() {
+    final AtomicInteger pulled = new AtomicInteger();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final Stream<Callable<Integer>> source =
+        IntStream.range(0, 200)
+            .peek(i -> pulled.incrementAndGet())
+            .mapToObj(
+                i ->
+                    () -> {
+                      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                      TimeUnit.MILLISECONDS.sleep(1);
+                      inFlight.decrementAndGet();
+                      return i;
+                    });
+
+    try (final Syndicate<Integer> syndicate = Syndicate.<Integer>init().limit(4)) {
+      final AtomicInteger consumed = new AtomicInteger();
+      final int sum =
+          syndicate.stream(source)
+              // At most 4 in flight, plus the task the source iterator reads ahead.
+              .peek(
+                  outcome -> Assertions.assertTrue(pulled.get() <= consumed.incrementAndGet() + 5))
+              .mapToInt(Try::get)
+              .sum();
+
+      Assertions.assertEquals(199 * 100, sum);
+      Assertions.assertTrue(maxInFlight.get() <= 4);
+    }
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Syndicate.<Integer>init().limit(0));
+  }
+
+  @Test
+  void limitedSyndicateSubmitsOrFailsFast() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    try (final Syndicate<String> syndicate = Syndicate.<String>init().limit(1)) {
+      final AsyncTry<String> first =
+          syndicate.submit(
+              () -> {
+                release.await();
+                return "first";
+              });
+
+      final Throwable full = syndicate.trySubmit(() -> "second").toTry().getCause();
+      Assertions.assertTrue(full instanceof RejectedExecutionException);
+
+      Thread.currentThread().interrupt();
+      Assertions.assertTrue(
+          syndicate.submit(() -> "third").toTry().getCause() instanceof InterruptedException);
+      Assertions.assertTrue(Thread.interrupted());
+
+      final Throwable waiting =
+          syndicate
+              .add(() -> "fourth")
+              .apply(50, TimeUnit.MILLISECONDS)
+              .iterator()
+              .next()
+              .getCause();
+      Assertions.assertTrue(waiting instanceof CancellationException);
+      Assertions.assertTrue(waiting.getCause() instanceof TimeoutException);
+
+      release.countDown();
+      Assertions.assertEquals("first", first.toTry().get());
+      Assertions.assertEquals("fifth", syndicate.submit(() -> "fifth").toTry().get());
+    }
+
+    final ExecutorService shutdown = Executors.newSingleThreadExecutor();
+    shutdown.shutdown();
+    final Syndicate<String> rejecting = Syndicate.<String>init(shutdown).limit(1);
+    Assertions.assertTrue(
+        rejecting.trySubmit(() -> "never").toTry().getCause()
+            instanceof RejectedExecutionException);
+    // The permit of the rejected task is released.
+    Assertions.assertFalse(
+        rejecting.trySubmit(() -> "never").toTry().getCause().getMessage().startsWith("limit"));
+  }
+
+  @Test
+  void failFastCancelsTheRestOnFirstFailure() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      final CountDownLatch started = new CountDownLatch(1);
+      final CountDownLatch interrupted = new CountDownLatch(1);
+      final Try<List<Integer>> failed =
+          syndicate
+              .add(
+                  () -> {
+                    started.countDown();
+                    try {
+                      TimeUnit.SECONDS.sleep(10);
+                    } catch (final InterruptedException e) {
+                      interrupted.countDown();
+                    }
+                    return 1;
+                  })
+              .add(
+                  () -> {
+                    started.await();
+                    throw new IllegalStateException("doomed");
+                  })
+              .apply()
+              .failFast();
+
+      Assertions.assertTrue(failed.getCause() instanceof IllegalStateException);
+      Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    } catch (final InterruptedException e) {
+      Assertions.fail(e);
+    }
+
+    try (final Syndicate<Integer> syndicate = Syndicate.<Integer>init().limit(2)) {
+      this.numbers.forEach(
+          number ->
+              syndicate.add(
+                  () -> {
+                    TimeUnit.MILLISECONDS.sleep(30L * (3 - number));
+                    return number * number;
+                  }));
+
+      Assertions.assertEquals(Arrays.asList(1, 4, 9), syndicate.apply().failFast().get());
+    }
+  }
+
+  @Test
+  void firstSuccessCancelsTheRest() {
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final Try<String> first =
+          syndicate
+              .add(
+                  () -> {
+                    throw new IllegalStateException("replica down");
+                  })
+              .add(
+                  () -> {
+                    TimeUnit.SECONDS.sleep(10);
+                    return "slow";
+                  })
+              .add(() -> "fast")
+              .apply()
+              .firstSuccess();
+
+      Assertions.assertEquals("fast", first.get());
+    }
+
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      Assertions.assertTrue(
+          syndicate.apply().firstSuccess().getCause() instanceof NoSuchElementException);
+      final Try<String> none =
+          syndicate
+              .add(
+                  () -> {
+                    throw new IllegalStateException("replica down");
+                  })
+              .apply()
+              .firstSuccess();
+      Assertions.assertTrue(none.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  void hedgeStartsABackupPastThePercentile() {
+    try (final Syndicate<String> syndicate = Syndicate.<String>init().hedgeAt(0.9)) {
+      final AtomicInteger calls = new AtomicInteger();
+      for (int i = 0; i < 20; i++) {
+        Assertions.assertEquals("fast", syndicate.hedge(() -> "fast").get());
+      }
+
+      final long start = System.nanoTime();
+      final Try<String> hedged =
+          syndicate.hedge(
+              () -> {
+                if (calls.incrementAndGet() == 1) {
+                  TimeUnit.SECONDS.sleep(10);
+                }
+                return "backup";
+              });
+
+      Assertions.assertEquals("backup", hedged.get());
+      Assertions.assertEquals(2, calls.get());
+      Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+  }
+
+  @Test
+  void hedgeWaitsForTheBackupWhenTheFirstCopyFails() {
+    try (final Syndicate<String> syndicate = Syndicate.<String>init().limit(2)) {
+      for (int i = 0; i < 20; i++) {
+        syndicate.hedge(() -> "fast");
+      }
+
+      final AtomicInteger calls = new AtomicInteger();
+      final Try<String> hedged =
+          syndicate.hedge(
+              () -> {
+                if (calls.incrementAndGet() == 1) {
+                  TimeUnit.MILLISECONDS.sleep(200);
+                  throw new IllegalStateException("replica down");
+                }
+                TimeUnit.MILLISECONDS.sleep(400);
+                return "backup";
+              });
+      Assertions.assertEquals("backup", hedged.get());
+
+      final Try<String> failed =
+          syndicate.hedge(
+              () -> {
+                throw new IllegalStateException("replica down");
+              });
+      Assertions.assertTrue(failed.getCause() instanceof IllegalStateException);
+
+      Thread.currentThread().interrupt();
+      Assertions.assertTrue(
+          syndicate.hedge(() -> "never").getCause() instanceof InterruptedException);
+      Assertions.assertTrue(Thread.interrupted());
+      Assertions.assertEquals("after", syndicate.trySubmit(() -> "after").toTry().get());
+    }
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Syndicate.<String>init().hedgeAt(0));
+    final ExecutorService shutdown = Executors.newSingleThreadExecutor();
+    shutdown.shutdown();
+    Assertions.assertTrue(
+        Syndicate.<String>init(shutdown).hedge(() -> "never").getCause()
+            instanceof RejectedExecutionException);
+  }
+
+  @Test
+  void resultsReportTaskTimeoutsInTaskOrder() {
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final long start = System.nanoTime();
+      final List<Try<String>> results =
+          syndicate
+              .add(
+                  () -> {
+                    TimeUnit.SECONDS.sleep(10);
+                    return "slow";
+                  })
+              .add(
+                  deadline -> {
+                    while (true) {
+                      deadline.check();
+                      TimeUnit.MILLISECONDS.sleep(5);
+                    }
+                  })
+              .add(() -> "fast")
+              .apply()
+              .taskTimeout(100, TimeUnit.MILLISECONDS)
+              .results();
+
+      Assertions.assertEquals(3, results.size());
+      Assertions.assertTrue(results.get(0).getCause() instanceof TimeoutException);
+      Assertions.assertTrue(results.get(1).getCause() instanceof TimeoutException);
+      Assertions.assertEquals("fast", results.get(2).get());
+      Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    try (final Syndicate<String> syndicate = Syndicate.<String>init().limit(1)) {
+      for (int i = 0; i < 3; i++) {
+        syndicate.add(
+            () -> {
+              TimeUnit.SECONDS.sleep(10);
+              return "slow";
+            });
+      }
+      final List<Try<String>> results =
+          syndicate.apply().taskTimeout(50, TimeUnit.MILLISECONDS).results();
+
+      Assertions.assertTrue(
+          results.stream().allMatch(outcome -> outcome.getCause() instanceof TimeoutException));
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> syndicate.apply().taskTimeout(0, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void resultsReportTheBatchTimeoutAndPassTheDeadline() throws Exception {
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final List<Try<String>> results =
+          syndicate
+              .add(
+                  deadline -> {
+                    TimeUnit.SECONDS.sleep(10);
+                    return "slow";
+                  })
+              .add(deadline -> deadline.isExpired() ? "late" : "on time")
+              .apply(100, TimeUnit.MILLISECONDS)
+              .results();
+
+      Assertions.assertTrue(results.get(0).getCause() instanceof TimeoutException);
+      Assertions.assertEquals("on time", results.get(1).get());
+    }
+
+    try (final Syndicate<Long> syndicate = Syndicate.init()) {
+      final Future<Long> bounded =
+          syndicate
+              .add(deadline -> deadline.remaining(TimeUnit.SECONDS))
+              .apply(1, TimeUnit.MINUTES)
+              .execute()
+              .get()
+              .get()
+              .get(0);
+      Assertions.assertTrue(bounded.get() <= 60);
+
+      final Long unbounded = syndicate.apply().iterator().next().get();
+      Assertions.assertEquals(Long.MAX_VALUE, unbounded);
+    }
+  }
+
+  @Test
+  void syndicatesBorrowTheThreadsOfASharedPool() {
+    final Set<String> threads = new HashSet<>();
+    for (int i = 0; i < 50; i++) {
+      try (final Syndicate<Thread> syndicate = Syndicate.init()) {
+        final Thread thread = syndicate.add(Thread::currentThread).apply().iterator().next().get();
+        Assertions.assertTrue(thread.isDaemon());
+        threads.add(thread.getName());
+      }
+    }
+    Assertions.assertTrue(threads.stream().allMatch(name -> name.startsWith("cutils-syndicate-")));
+    Assertions.assertTrue(threads.size() < 50);
+
+    final Syndicate<String> closed = Syndicate.init();
+    final Syndicate<String> open = Syndicate.init();
+    closed.close();
+    Assertions.assertTrue(
+        closed.add(() -> "never").apply().execute().get().getCause()
+            instanceof RejectedExecutionException);
+    Assertions.assertEquals("open", open.submit(() -> "open").toTry().get());
+    open.close();
+  }
+
+  @Test
+  void limitStillHoldsAfterATimedOutBatch() {
+    try (final Syndicate<String> syndicate = Syndicate.<String>init().limit(2)) {
+      for (int i = 0; i < 10; i++) {
+        syndicate.add(
+            () -> {
+              TimeUnit.SECONDS.sleep(10);
+              return "slow";
+            });
+      }
+      final List<Try<String>> results = syndicate.apply(50, TimeUnit.MILLISECONDS).results();
+      Assertions.assertTrue(
+          results.stream().allMatch(outcome -> outcome.getCause() instanceof TimeoutException));
+
+      final CountDownLatch release = new CountDownLatch(1);
+      final Callable<String> blocked =
+          () -> {
+            release.await();
+            return "blocked";
+          };
+      final AsyncTry<String> first = syndicate.trySubmit(blocked);
+      final AsyncTry<String> second = syndicate.trySubmit(blocked);
+      final AsyncTry<String> third = syndicate.trySubmit(blocked);
+      release.countDown();
+      Assertions.assertTrue(third.toTry().getCause() instanceof RejectedExecutionException);
+      Assertions.assertEquals("blocked", first.toTry().get());
+      Assertions.assertEquals("blocked", second.toTry().get());
+    }
+  }
+
+  @Test
+  void saturatedSharedPoolRejectsInsteadOfRunningOnTheCaller() throws Exception {
+    final Thread caller = Thread.currentThread();
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger onCaller = new AtomicInteger();
+    final Callable<String> blocked =
+        () -> {
+          if (Thread.currentThread() == caller) {
+            onCaller.incrementAndGet();
+          }
+          release.await(5, TimeUnit.SECONDS);
+          return "done";
+        };
+
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final int capacity = Runtime.getRuntime().availableProcessors() * (64 + 16_384);
+      Try<String> rejected = null;
+      for (int i = 0; i <= capacity * 2 && rejected == null; i++) {
+        final AsyncTry<String> submitted = syndicate.submit(blocked);
+        if (submitted.isDone() && submitted.toTry().isFailure()) {
+          rejected = submitted.toTry();
+        }
+      }
+      release.countDown();
+
+      Assertions.assertNotNull(rejected);
+      Assertions.assertTrue(rejected.getCause() instanceof RejectedExecutionException);
+      Assertions.assertEquals(0, onCaller.get());
+    } finally {
+      release.countDown();
+    }
+  }
 }
@@ -0,0 +1,145 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.function.Dealer;
+import art.cutils.value.Pair;
+import art.cutils.value.TryBatch;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Try Batch Operation test.")
+final class TryBatchTest {
+
+  private static final List<String> LINES = Arrays.asList("1", "two", "3", "", "5");
+
+  @Test
+  void batchOverCollectionSplitsSuccessesAndFailures() {
+    final TryBatch<Integer> batch = TryBatch.of(LINES, Integer::parseInt);
+
+    assertEquals(Arrays.asList(1, 3, 5), batch.getSuccesses());
+    assertTrue(batch.hasFailures());
+    assertEquals(5, batch.size());
+
+    final List<Pair<Integer, Throwable>> failures = batch.getFailures();
+    assertEquals(2, failures.size());
+    assertEquals(1, failures.get(0).getFirst());
+    assertEquals(3, failures.get(1).getFirst());
+    assertInstanceOf(NumberFormatException.class, failures.get(0).getSecond());
+    assertThrows(UnsupportedOperationException.class, () -> batch.getSuccesses().add(7));
+  }
+
+  @Test
+  void batchOverStreamMatchesCollection() {
+    final TryBatch<Integer> batch = TryBatch.of(LINES.stream().parallel(), Integer::parseInt);
+
+    assertEquals(Arrays.asList(1, 3, 5), batch.getSuccesses());
+    assertEquals(1, batch.getFailures().get(0).getFirst());
+    assertEquals(3, batch.getFailures().get(1).getFirst());
+  }
+
+  @Test
+  void batchOfDealers() {
+    final List<Dealer<String>> dealers =
+        Arrays.asList(
+            () -> "first",
+            () -> {
+              throw new IllegalStateException("second");
+            },
+            () -> "third");
+
+    final TryBatch<String> fromCollection = TryBatch.of(dealers);
+    final TryBatch<String> fromStream = TryBatch.of(dealers.stream());
+
+    assertEquals(Arrays.asList("first", "third"), fromCollection.getSuccesses());
+    assertEquals(fromCollection.getSuccesses(), fromStream.getSuccesses());
+    assertEquals(1, fromStream.getFailures().get(0).getFirst());
+    assertInstanceOf(IllegalStateException.class, fromStream.getFailures().get(0).getSecond());
+  }
+
+  @Test
+  void parallelBatchKeepsInputOrder() {
+    final List<String> inputs =
+        IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 7 == 0 ? "x" + i : String.valueOf(i))
+            .collect(Collectors.toList());
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final TryBatch<Integer> parallel = TryBatch.parallel(inputs, Integer::parseInt, pool);
+      final TryBatch<Integer> sequential = TryBatch.of(inputs, Integer::parseInt);
+
+      assertEquals(sequential.getSuccesses(), parallel.getSuccesses());
+      assertEquals(sequential.size(), parallel.size());
+      final List<Integer> indexes = new ArrayList<>();
+      parallel.getFailures().forEach(failure -> indexes.add(failure.getFirst()));
+      assertEquals(
+          IntStream.range(0, 10_000).filter(i -> i % 7 == 0).boxed().collect(Collectors.toList()),
+          indexes);
+
+      final List<Dealer<Integer>> dealers = Arrays.asList(() -> 1, () -> 2);
+      assertEquals(Arrays.asList(1, 2), TryBatch.parallel(dealers, pool).getSuccesses());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void emptyBatch() {
+    final TryBatch<Integer> batch = TryBatch.of(Stream.<String>empty(), Integer::parseInt);
+
+    assertFalse(batch.hasFailures());
+    assertEquals(0, batch.size());
+    assertTrue(
+        TryBatch.parallel(
+                Collections.<String>emptyList(), Integer::parseInt, ForkJoinPool.commonPool())
+            .getSuccesses()
+            .isEmpty());
+    assertThrows(NullPointerException.class, () -> TryBatch.of(LINES, null));
+    assertThrows(
+        NullPointerException.class, () -> TryBatch.parallel(LINES, Integer::parseInt, null));
+  }
+
+  @Test
+  void nullOperationIsRejected() {
+    final List<Dealer<String>> dealers = Arrays.asList(() -> "a", null);
+
+    assertThrows(NullPointerException.class, () -> TryBatch.of(dealers));
+    assertThrows(NullPointerException.class, () -> TryBatch.of(dealers.stream()));
+    assertThrows(
+        NullPointerException.class, () -> TryBatch.parallel(dealers, ForkJoinPool.commonPool()));
+  }
+}
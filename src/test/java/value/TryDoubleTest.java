@@ -0,0 +1,120 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Fault;
+import art.cutils.value.Try;
+import art.cutils.value.TryDouble;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TryDouble Operation test.")
+final class TryDoubleTest {
+
+  @Test
+  void successfulParseAndTransform() {
+    final AtomicReference<Double> seen = new AtomicReference<>();
+    final TryDouble parsed = TryDouble.of(() -> Double.parseDouble("6.25"));
+
+    assertTrue(parsed.isSuccess());
+    assertFalse(parsed.isFailure());
+    assertFalse(parsed.isEmpty());
+    assertNull(parsed.getCause());
+    assertEquals(6.25D, parsed.getAsDouble(), 0D);
+
+    final TryDouble root = parsed.map(value -> (double) Math.sqrt(value)).onSuccess(seen::set);
+    assertEquals(2.5D, root.getAsDouble(), 0D);
+    assertEquals(2.5D, seen.get(), 0D);
+    assertEquals(2.5D, root.orElseGet(1.5D), 0D);
+    assertEquals(2.5D, root.orElseGet(() -> 1.5D), 0D);
+    assertEquals(parsed, parsed.filter(value -> value > 0));
+    assertEquals(TryDouble.success(6.25D), parsed);
+    assertEquals(TryDouble.success(6.25D).hashCode(), parsed.hashCode());
+    assertEquals(6.25D, parsed.toTry().get());
+  }
+
+  @Test
+  void filterEmptiesUnmatchedResult() {
+    final TryDouble filtered = TryDouble.success(6.25D).filter(value -> value < 0);
+
+    assertTrue(filtered.isSuccess());
+    assertTrue(filtered.isEmpty());
+    assertEquals(1.5D, filtered.orElseGet(1.5D), 0D);
+    assertEquals(1.5D, filtered.orElseGet(() -> 1.5D), 0D);
+    assertEquals(filtered, filtered.map(value -> value + 1));
+    assertThrows(IllegalStateException.class, filtered::getAsDouble);
+    assertNotEquals(TryDouble.success(6.25D), filtered);
+
+    final Try<Double> boxed = filtered.toTry();
+    assertTrue(boxed.isSuccess());
+    assertTrue(boxed.isEmpty());
+  }
+
+  @Test
+  void failureSkipsStages() {
+    final AtomicReference<Throwable> failed = new AtomicReference<>();
+    final TryDouble failure =
+        TryDouble.of(() -> Double.parseDouble("cutils"))
+            .map(value -> value * 2)
+            .filter(value -> value > 0)
+            .onSuccess(value -> failed.set(null))
+            .onFailure(failed::set);
+
+    assertTrue(failure.isFailure());
+    assertFalse(failure.isSuccess());
+    assertTrue(failure.isEmpty());
+    assertInstanceOf(NumberFormatException.class, failure.getCause());
+    assertSame(failure.getCause(), failed.get());
+    assertEquals(1.5D, failure.orElseGet(1.5D), 0D);
+    assertThrows(IllegalStateException.class, failure::getAsDouble);
+    assertSame(failure.getCause(), failure.toTry().getCause());
+  }
+
+  @Test
+  void throwingMapperBecomesFailure() {
+    final Fault fault = Fault.of("NEGATIVE");
+    final TryDouble failure =
+        TryDouble.success(6.25D)
+            .map(
+                value -> {
+                  throw fault;
+                });
+
+    assertSame(fault, failure.getCause());
+    assertEquals(TryDouble.failure(fault), failure);
+    assertNotEquals(failure, "failure");
+    assertThrows(NullPointerException.class, () -> TryDouble.failure(null));
+    assertThrows(NullPointerException.class, () -> TryDouble.of(null));
+    assertThrows(NullPointerException.class, () -> failure.map(null));
+  }
+}
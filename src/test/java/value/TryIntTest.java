@@ -0,0 +1,120 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Fault;
+import art.cutils.value.Try;
+import art.cutils.value.TryInt;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TryInt Operation test.")
+final class TryIntTest {
+
+  @Test
+  void successfulParseAndTransform() {
+    final AtomicReference<Integer> seen = new AtomicReference<>();
+    final TryInt parsed = TryInt.of(() -> Integer.parseInt("0025"));
+
+    assertTrue(parsed.isSuccess());
+    assertFalse(parsed.isFailure());
+    assertFalse(parsed.isEmpty());
+    assertNull(parsed.getCause());
+    assertEquals(25, parsed.getAsInt());
+
+    final TryInt root = parsed.map(value -> (int) Math.sqrt(value)).onSuccess(seen::set);
+    assertEquals(5, root.getAsInt());
+    assertEquals(5, seen.get());
+    assertEquals(5, root.orElseGet(24));
+    assertEquals(5, root.orElseGet(() -> 24));
+    assertEquals(parsed, parsed.filter(value -> value > 0));
+    assertEquals(TryInt.success(25), parsed);
+    assertEquals(TryInt.success(25).hashCode(), parsed.hashCode());
+    assertEquals(25, parsed.toTry().get());
+  }
+
+  @Test
+  void filterEmptiesUnmatchedResult() {
+    final TryInt filtered = TryInt.success(25).filter(value -> value < 0);
+
+    assertTrue(filtered.isSuccess());
+    assertTrue(filtered.isEmpty());
+    assertEquals(24, filtered.orElseGet(24));
+    assertEquals(24, filtered.orElseGet(() -> 24));
+    assertEquals(filtered, filtered.map(value -> value + 1));
+    assertThrows(IllegalStateException.class, filtered::getAsInt);
+    assertNotEquals(TryInt.success(25), filtered);
+
+    final Try<Integer> boxed = filtered.toTry();
+    assertTrue(boxed.isSuccess());
+    assertTrue(boxed.isEmpty());
+  }
+
+  @Test
+  void failureSkipsStages() {
+    final AtomicReference<Throwable> failed = new AtomicReference<>();
+    final TryInt failure =
+        TryInt.of(() -> Integer.parseInt("cutils"))
+            .map(value -> value * 2)
+            .filter(value -> value > 0)
+            .onSuccess(value -> failed.set(null))
+            .onFailure(failed::set);
+
+    assertTrue(failure.isFailure());
+    assertFalse(failure.isSuccess());
+    assertTrue(failure.isEmpty());
+    assertInstanceOf(NumberFormatException.class, failure.getCause());
+    assertSame(failure.getCause(), failed.get());
+    assertEquals(24, failure.orElseGet(24));
+    assertThrows(IllegalStateException.class, failure::getAsInt);
+    assertSame(failure.getCause(), failure.toTry().getCause());
+  }
+
+  @Test
+  void throwingMapperBecomesFailure() {
+    final Fault fault = Fault.of("NEGATIVE");
+    final TryInt failure =
+        TryInt.success(25)
+            .map(
+                value -> {
+                  throw fault;
+                });
+
+    assertSame(fault, failure.getCause());
+    assertEquals(TryInt.failure(fault), failure);
+    assertNotEquals(failure, "failure");
+    assertThrows(NullPointerException.class, () -> TryInt.failure(null));
+    assertThrows(NullPointerException.class, () -> TryInt.of(null));
+    assertThrows(NullPointerException.class, () -> failure.map(null));
+  }
+}
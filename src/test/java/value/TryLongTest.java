@@ -0,0 +1,120 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Fault;
+import art.cutils.value.Try;
+import art.cutils.value.TryLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TryLong Operation test.")
+final class TryLongTest {
+
+  @Test
+  void successfulParseAndTransform() {
+    final AtomicReference<Long> seen = new AtomicReference<>();
+    final TryLong parsed = TryLong.of(() -> Long.parseLong("0025"));
+
+    assertTrue(parsed.isSuccess());
+    assertFalse(parsed.isFailure());
+    assertFalse(parsed.isEmpty());
+    assertNull(parsed.getCause());
+    assertEquals(25L, parsed.getAsLong());
+
+    final TryLong root = parsed.map(value -> (long) Math.sqrt(value)).onSuccess(seen::set);
+    assertEquals(5L, root.getAsLong());
+    assertEquals(5L, seen.get());
+    assertEquals(5L, root.orElseGet(24L));
+    assertEquals(5L, root.orElseGet(() -> 24L));
+    assertEquals(parsed, parsed.filter(value -> value > 0));
+    assertEquals(TryLong.success(25L), parsed);
+    assertEquals(TryLong.success(25L).hashCode(), parsed.hashCode());
+    assertEquals(25L, parsed.toTry().get());
+  }
+
+  @Test
+  void filterEmptiesUnmatchedResult() {
+    final TryLong filtered = TryLong.success(25L).filter(value -> value < 0);
+
+    assertTrue(filtered.isSuccess());
+    assertTrue(filtered.isEmpty());
+    assertEquals(24L, filtered.orElseGet(24L));
+    assertEquals(24L, filtered.orElseGet(() -> 24L));
+    assertEquals(filtered, filtered.map(value -> value + 1));
+    assertThrows(IllegalStateException.class, filtered::getAsLong);
+    assertNotEquals(TryLong.success(25L), filtered);
+
+    final Try<Long> boxed = filtered.toTry();
+    assertTrue(boxed.isSuccess());
+    assertTrue(boxed.isEmpty());
+  }
+
+  @Test
+  void failureSkipsStages() {
+    final AtomicReference<Throwable> failed = new AtomicReference<>();
+    final TryLong failure =
+        TryLong.of(() -> Long.parseLong("cutils"))
+            .map(value -> value * 2)
+            .filter(value -> value > 0)
+            .onSuccess(value -> failed.set(null))
+            .onFailure(failed::set);
+
+    assertTrue(failure.isFailure());
+    assertFalse(failure.isSuccess());
+    assertTrue(failure.isEmpty());
+    assertInstanceOf(NumberFormatException.class, failure.getCause());
+    assertSame(failure.getCause(), failed.get());
+    assertEquals(24L, failure.orElseGet(24L));
+    assertThrows(IllegalStateException.class, failure::getAsLong);
+    assertSame(failure.getCause(), failure.toTry().getCause());
+  }
+
+  @Test
+  void throwingMapperBecomesFailure() {
+    final Fault fault = Fault.of("NEGATIVE");
+    final TryLong failure =
+        TryLong.success(25L)
+            .map(
+                value -> {
+                  throw fault;
+                });
+
+    assertSame(fault, failure.getCause());
+    assertEquals(TryLong.failure(fault), failure);
+    assertNotEquals(failure, "failure");
+    assertThrows(NullPointerException.class, () -> TryLong.failure(null));
+    assertThrows(NullPointerException.class, () -> TryLong.of(null));
+    assertThrows(NullPointerException.class, () -> failure.map(null));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.function.Accepter;
+import art.cutils.value.Try;
+import art.cutils.value.TryPipeline;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Try Pipeline Operation test.")
+final class TryPipelineTest {
+
+  @Test
+  void pipelineMatchesTheEquivalentChain() {
+    final TryPipeline<String, Integer> pipeline =
+        TryPipeline.<String>start()
+            .map(String::trim)
+            .map(Integer::parseInt)
+            .filter(n -> n > 0)
+            .map(n -> n * 2);
+
+    for (final String line : Arrays.asList(" 21 ", "-4", "x")) {
+      final Try<Integer> chain =
+          Try.of(() -> line.trim()).map(Integer::parseInt).filter(n -> n > 0).map(n -> n * 2);
+      final Try<Integer> fused = pipeline.apply(line);
+
+      assertEquals(chain.isSuccess(), fused.isSuccess());
+      assertEquals(chain.isEmpty(), fused.isEmpty());
+      assertEquals(chain.isFailure(), fused.isFailure());
+    }
+
+    assertEquals(42, pipeline.apply(" 21 ").get());
+    assertTrue(pipeline.apply("-4").isEmpty());
+    assertInstanceOf(NumberFormatException.class, pipeline.apply("x").getCause());
+    assertEquals(4, pipeline.size());
+  }
+
+  @Test
+  void stagesAfterAFailureOrUnmatchedFilterAreSkipped() {
+    final List<Integer> peeked = new ArrayList<>();
+    final TryPipeline<String, Integer> pipeline =
+        TryPipeline.<String>start().map(Integer::parseInt).filter(n -> n > 0).peek(peeked::add);
+
+    pipeline.apply("-1");
+    pipeline.apply("one");
+    pipeline.apply("1");
+
+    assertEquals(Arrays.asList(1), peeked);
+  }
+
+  @Test
+  void throwingPredicateFailsTheOutcome() {
+    final Try<String> outcome =
+        TryPipeline.<String>start()
+            .filter(
+                s -> {
+                  throw new IllegalStateException();
+                })
+            .apply("input");
+
+    assertInstanceOf(IllegalStateException.class, outcome.getCause());
+  }
+
+  @Test
+  void throwingPeekFailsTheOutcomeLikeTheChain() {
+    final Accepter<String> broken =
+        s -> {
+          throw new AssertionError("broken peek");
+        };
+
+    final Try<String> pipelined = TryPipeline.<String>start().peek(broken).apply("input");
+    final Try<String> chained = Try.success("input").peek(broken);
+
+    assertInstanceOf(AssertionError.class, pipelined.getCause());
+    assertInstanceOf(AssertionError.class, chained.getCause());
+  }
+
+  @Test
+  void pipelineIsImmutable() {
+    final TryPipeline<Integer, Integer> start = TryPipeline.start();
+    final TryPipeline<Integer, Integer> doubled = start.map(n -> n * 2);
+
+    assertSame(TryPipeline.start(), start);
+    assertEquals(0, start.size());
+    assertEquals(1, doubled.size());
+    assertEquals(3, start.apply(3).get());
+    assertEquals(6, doubled.apply(3).get());
+    assertEquals(5, doubled.map(n -> n - 1).apply(3).get());
+    assertEquals(6, doubled.apply(3).get());
+  }
+
+  @Test
+  void nullStagesAreRejected() {
+    final TryPipeline<String, String> start = TryPipeline.start();
+
+    assertThrows(NullPointerException.class, () -> start.map(null));
+    assertThrows(NullPointerException.class, () -> start.filter(null));
+    assertThrows(NullPointerException.class, () -> start.peek(null));
+  }
+}
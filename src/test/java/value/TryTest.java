@@ -30,10 +30,17 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import art.cutils.value.Fault;
 import art.cutils.value.Try;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
@@ -69,9 +76,13 @@ final class TryTest {
 
     assertNull(convertStringToInteger.getCause());
 
-    assertEquals(convertStringToInteger.filter(Objects::isNull), convertStringToInteger);
+    final Try<Integer> filteredOut = convertStringToInteger.filter(Objects::isNull);
 
-    assertFalse(convertStringToInteger.isResult());
+    assertNotEquals(filteredOut, convertStringToInteger);
+
+    assertFalse(filteredOut.isResult());
+
+    assertTrue(convertStringToInteger.isResult());
   }
 
   @Test
@@ -293,7 +304,9 @@ final class TryTest {
 
     final Try<Integer> t2 = t1.filter(result -> result < 0); // condition is not met
 
-    assertEquals(t1, t2);
+    assertNotEquals(t1, t2);
+    assertTrue(t1.isNotEmpty());
+    assertEquals(25, t1.get());
     assertFalse(t2.isNotEmpty());
     assertTrue(t2.isEmpty());
     assertFalse(t2.isResult());
@@ -382,4 +395,135 @@ final class TryTest {
         .onEmpty(() -> 42)
         .onSuccess(result -> assertEquals(100, result));
   }
+
+  @Test
+  void resultLessSuccessesAreShared() throws Exception {
+    final Try<?> unit = Try.of(() -> {});
+    final Try<Integer> empty = Try.of(() -> 25).filter(result -> result < 0);
+
+    assertSame(unit, Try.of(() -> {}));
+    assertSame(empty, Try.of(() -> 7).filter(result -> result < 0));
+    assertSame(empty, unit.map(result -> 1));
+    assertSame(empty, empty.map(result -> result + 1));
+    assertNotEquals(unit, empty);
+
+    assertSame(unit, deserialize(serialize(unit)));
+    assertSame(empty, deserialize(serialize(empty)));
+  }
+
+  private static byte[] serialize(final Object object) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Object deserialize(final byte[] bytes) throws Exception {
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    }
+  }
+
+  @Test
+  void faultsCaptureNoStackTrace() {
+    final Fault notANumber = Fault.of("NOT_A_NUMBER");
+    final Try<Integer> failure = Try.failure(notANumber);
+
+    assertTrue(failure.isFailure());
+    assertSame(notANumber, failure.getCause());
+    assertEquals(0, notANumber.getStackTrace().length);
+    assertEquals("NOT_A_NUMBER", notANumber.getCode());
+    assertEquals("NOT_A_NUMBER", notANumber.getMessage());
+
+    final Try<Integer> thrown =
+        Try.of(
+            () -> {
+              throw notANumber;
+            });
+    assertSame(notANumber, thrown.getCause());
+    assertEquals(0, thrown.getCause().getStackTrace().length);
+
+    final Fault described = Fault.of("EMPTY", "input is empty");
+    assertEquals("EMPTY", described.getCode());
+    assertEquals("input is empty", described.getMessage());
+
+    final IOException io = new IOException("unavailable");
+    final Fault wrapped = Fault.of("IO", io);
+    assertSame(io, wrapped.getCause());
+    assertEquals(0, wrapped.getStackTrace().length);
+  }
+
+  @Test
+  void failureIsReusedAcrossMapping() {
+    final Try<Integer> failure = Try.fault("NOT_A_NUMBER");
+
+    assertInstanceOf(Fault.class, failure.getCause());
+    assertEquals("NOT_A_NUMBER", ((Fault) failure.getCause()).getCode());
+    assertSame(failure, failure.map(result -> result * 2));
+    assertSame(failure, failure.onEmpty(() -> 1));
+    assertThrows(NullPointerException.class, () -> Try.failure(null));
+    assertThrows(NullPointerException.class, () -> Try.fault(null));
+  }
+
+  @Test
+  void flatMapChainsTries() {
+    final Try<Integer> parsed = Try.of(() -> Integer.parseInt("0025"));
+
+    assertEquals(5, parsed.flatMap(result -> Try.success((int) Math.sqrt(result))).get());
+    assertInstanceOf(
+        NumberFormatException.class,
+        parsed.flatMap(result -> Try.of(() -> Integer.parseInt("0O25"))).getCause());
+    assertInstanceOf(NullPointerException.class, parsed.flatMap(result -> null).getCause());
+    assertTrue(parsed.filter(result -> result < 0).flatMap(Try::success).isEmpty());
+
+    final Try<Integer> failure = Try.fault("NOT_A_NUMBER");
+    assertSame(failure, failure.flatMap(Try::success));
+  }
+
+  @Test
+  void recoverReplacesFailureOnly() {
+    final Try<Integer> success = Try.success(25);
+    final Try<Integer> failure = Try.of(() -> Integer.parseInt("0O25"));
+
+    assertSame(success, success.recover(cause -> 0));
+    assertSame(success, success.recoverWith(cause -> Try.success(0)));
+    assertEquals(0, failure.recover(cause -> 0).get());
+    assertEquals(-1, failure.recover(cause -> cause instanceof NumberFormatException ? -1 : 0).get());
+    assertEquals(1, failure.recoverWith(cause -> Try.success(1)).get());
+
+    final Fault fault = Fault.of("UNRECOVERABLE");
+    assertSame(
+        fault,
+        failure
+            .recover(
+                cause -> {
+                  throw fault;
+                })
+            .getCause());
+    assertSame(fault, failure.recoverWith(cause -> Try.failure(fault)).getCause());
+    assertInstanceOf(NullPointerException.class, failure.recoverWith(cause -> null).getCause());
+  }
+
+  @Test
+  void foldReducesEitherState() {
+    assertEquals(
+        "25", Try.success(25).fold(String::valueOf, cause -> cause.getClass().getSimpleName()));
+    assertEquals(
+        "NumberFormatException",
+        Try.of(() -> Integer.parseInt("0O25"))
+            .fold(String::valueOf, cause -> cause.getClass().getSimpleName()));
+    assertNull(Try.of(() -> {}).fold(result -> result, cause -> "failed"));
+    assertThrows(NullPointerException.class, () -> Try.success(1).fold(null, cause -> 0));
+    assertThrows(NullPointerException.class, () -> Try.success(1).recover(null));
+  }
+
+  @Test
+  void nullFunctionIsRejectedWhetherItRunsOrNot() {
+    final Try<Integer> failure = Try.failure(new IOException("down"));
+
+    assertThrows(NullPointerException.class, () -> failure.map(null));
+    assertThrows(NullPointerException.class, () -> failure.flatMap(null));
+    assertThrows(NullPointerException.class, () -> Try.success(1).recoverWith(null));
+  }
 }